@@ -3,14 +3,26 @@ package org.example.enoboard;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.example.enoboard.commands.EnoBoardCommand;
+import org.example.enoboard.listeners.ActivityListener;
+import org.example.enoboard.listeners.PlaceholderListener;
 import org.example.enoboard.listeners.PlayerListener;
+import org.example.enoboard.preferences.PreferenceStore;
+import org.example.enoboard.scheduler.TaskHandle;
+import org.example.enoboard.scheduler.TaskScheduler;
 import org.example.enoboard.scoreboard.ScoreboardManager;
 import org.example.enoboard.web.WebServer;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Level;
+
 public class EnoBoard extends JavaPlugin {
 
     private static EnoBoard instance;
+    private TaskScheduler taskScheduler;
     private ScoreboardManager scoreboardManager;
+    private PreferenceStore preferences;
+    private TaskHandle preferencesTask;
     private WebServer webServer;
 
     @Override
@@ -20,6 +32,13 @@ public class EnoBoard extends JavaPlugin {
         // Config dosyasını oluştur
         saveDefaultConfig();
 
+        taskScheduler = TaskScheduler.create(this);
+
+        // Oyuncu tercihleri; dosya ilk girişte okunur, değişiklikler toplu olarak yazılır
+        preferences = new PreferenceStore(new File(getDataFolder(), "players.dat"), getLogger());
+        long flushInterval = Math.max(20L, getConfig().getLong("scoreboard.preferences-flush-interval", 600L));
+        preferencesTask = taskScheduler.runAsyncTimer(this::flushPreferences, flushInterval, flushInterval);
+
         // Scoreboard manager'ı başlat
         scoreboardManager = new ScoreboardManager(this);
         scoreboardManager.loadConfig();
@@ -32,6 +51,8 @@ public class EnoBoard extends JavaPlugin {
 
         // Listener'ları kaydet
         Bukkit.getPluginManager().registerEvents(new PlayerListener(this), this);
+        Bukkit.getPluginManager().registerEvents(new PlaceholderListener(this), this);
+        Bukkit.getPluginManager().registerEvents(new ActivityListener(this), this);
 
         // Komutları kaydet
         getCommand("enoboard").setExecutor(new EnoBoardCommand(this));
@@ -47,17 +68,39 @@ public class EnoBoard extends JavaPlugin {
         if (scoreboardManager != null) {
             scoreboardManager.stopAnimation();
         }
+        if (preferencesTask != null) {
+            preferencesTask.cancel();
+        }
+        if (preferences != null) {
+            flushPreferences();
+        }
         getLogger().info("EnoBoard devre dışı!");
     }
 
+    private void flushPreferences() {
+        try {
+            preferences.flush();
+        } catch (IOException e) {
+            getLogger().log(Level.WARNING, "Oyuncu tercihleri kaydedilemedi", e);
+        }
+    }
+
     public static EnoBoard getInstance() {
         return instance;
     }
 
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
     public ScoreboardManager getScoreboardManager() {
         return scoreboardManager;
     }
 
+    public PreferenceStore getPreferences() {
+        return preferences;
+    }
+
     public WebServer getWebServer() {
         return webServer;
     }
@@ -5,11 +5,13 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
 import org.example.enoboard.EnoBoard;
+import org.example.enoboard.scoreboard.ScoreboardManager;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 public class EnoBoardCommand implements CommandExecutor, TabCompleter {
 
@@ -21,17 +23,28 @@ public class EnoBoardCommand implements CommandExecutor, TabCompleter {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        if (!sender.hasPermission("enoboard.admin")) {
-            sender.sendMessage(ChatColor.RED + "Bu komutu kullanma yetkiniz yok!");
+        if (args.length == 0) {
+            sendHelp(sender);
             return true;
         }
 
-        if (args.length == 0) {
-            sendHelp(sender);
+        String sub = args[0].toLowerCase(Locale.ROOT);
+        if (!sender.hasPermission(permissionOf(sub))) {
+            sender.sendMessage(ChatColor.RED + "Bu komutu kullanma yetkiniz yok!");
             return true;
         }
 
-        switch (args[0].toLowerCase()) {
+        switch (sub) {
+            case "hide":
+            case "show":
+            case "style":
+                if (!(sender instanceof Player player)) {
+                    sender.sendMessage(ChatColor.RED + "Bu komut sadece oyuncular içindir!");
+                    break;
+                }
+                handlePlayerCommand(player, sub, args);
+                break;
+
             case "reload":
                 plugin.getScoreboardManager().loadConfig();
                 sender.sendMessage(ChatColor.GREEN + "EnoBoard yapılandırması yeniden yüklendi!");
@@ -56,20 +69,93 @@ public class EnoBoardCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    /**
+     * Oyuncunun kendi sidebar tercihleri; tercihler kalıcıdır.
+     */
+    private void handlePlayerCommand(Player player, String sub, String[] args) {
+        ScoreboardManager manager = plugin.getScoreboardManager();
+        switch (sub) {
+            case "hide":
+                manager.setHidden(player, true);
+                player.sendMessage(ChatColor.GREEN + "Scoreboard gizlendi. Tekrar açmak için: /enoboard show");
+                break;
+
+            case "show":
+                manager.setHidden(player, false);
+                player.sendMessage(ChatColor.GREEN + "Scoreboard gösteriliyor.");
+                break;
+
+            default:
+                if (args.length < 2) {
+                    player.sendMessage(ChatColor.YELLOW + "Stiller: " + ChatColor.WHITE + String.join(", ", styleChoices()));
+                    break;
+                }
+                String style = args[1].toLowerCase(Locale.ROOT);
+                if (!styleChoices().contains(style)) {
+                    player.sendMessage(ChatColor.RED + "Böyle bir stil yok: " + args[1]);
+                    break;
+                }
+                if (!manager.setStyle(player, style.equals("default") ? null : style)) {
+                    player.sendMessage(ChatColor.RED + "Stil tercihi kaydedilemedi, daha sonra tekrar deneyin.");
+                    break;
+                }
+                player.sendMessage(ChatColor.GREEN + "Scoreboard stili: " + ChatColor.WHITE + style);
+                break;
+        }
+    }
+
+    private List<String> styleChoices() {
+        List<String> styles = new ArrayList<>();
+        styles.add("default");
+        styles.addAll(plugin.getScoreboardManager().getStyles());
+        return styles;
+    }
+
+    private static String permissionOf(String sub) {
+        switch (sub) {
+            case "hide":
+            case "show":
+                return "enoboard.hide";
+            case "style":
+                return "enoboard.style";
+            default:
+                return "enoboard.admin";
+        }
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(ChatColor.AQUA + "═══════ " + ChatColor.WHITE + "EnoBoard Yardım" + ChatColor.AQUA + " ═══════");
-        sender.sendMessage(ChatColor.YELLOW + "/enoboard reload " + ChatColor.GRAY + "- Yapılandırmayı yeniden yükle");
-        sender.sendMessage(ChatColor.YELLOW + "/enoboard toggle " + ChatColor.GRAY + "- Scoreboard'u aç/kapat");
-        sender.sendMessage(ChatColor.YELLOW + "/enoboard web " + ChatColor.GRAY + "- Web panel adresini göster");
+        if (sender.hasPermission("enoboard.hide")) {
+            sender.sendMessage(ChatColor.YELLOW + "/enoboard hide|show " + ChatColor.GRAY + "- Scoreboard'u kendin için gizle/göster");
+        }
+        if (sender.hasPermission("enoboard.style")) {
+            sender.sendMessage(ChatColor.YELLOW + "/enoboard style <isim> " + ChatColor.GRAY + "- Scoreboard stilini seç");
+        }
+        if (sender.hasPermission("enoboard.admin")) {
+            sender.sendMessage(ChatColor.YELLOW + "/enoboard reload " + ChatColor.GRAY + "- Yapılandırmayı yeniden yükle");
+            sender.sendMessage(ChatColor.YELLOW + "/enoboard toggle " + ChatColor.GRAY + "- Scoreboard'u aç/kapat");
+            sender.sendMessage(ChatColor.YELLOW + "/enoboard web " + ChatColor.GRAY + "- Web panel adresini göster");
+        }
         sender.sendMessage(ChatColor.AQUA + "════════════════════════════");
     }
 
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> result = new ArrayList<>();
         if (args.length == 1) {
-            return Arrays.asList("reload", "toggle", "web");
+            for (String sub : List.of("hide", "show", "style", "reload", "toggle", "web")) {
+                if (sub.startsWith(args[0].toLowerCase(Locale.ROOT)) && sender.hasPermission(permissionOf(sub))) {
+                    result.add(sub);
+                }
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("style") && sender.hasPermission("enoboard.style")) {
+            for (String style : styleChoices()) {
+                if (style.startsWith(args[1].toLowerCase(Locale.ROOT))) {
+                    result.add(style);
+                }
+            }
         }
-        return new ArrayList<>();
+        return result;
     }
 }
 
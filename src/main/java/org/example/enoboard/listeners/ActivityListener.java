@@ -0,0 +1,44 @@
+package org.example.enoboard.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.example.enoboard.EnoBoard;
+
+/**
+ * Oyuncu aktivitesini dinler; hareketsiz seviyedeki oyuncular hemen tam hıza döner.
+ */
+public class ActivityListener implements Listener {
+
+    private final EnoBoard plugin;
+
+    public ActivityListener(EnoBoard plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        // Sadece etrafa bakmak da aktivite sayılır
+        plugin.getScoreboardManager().markActive(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInteract(PlayerInteractEvent event) {
+        plugin.getScoreboardManager().markActive(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCommand(PlayerCommandPreprocessEvent event) {
+        plugin.getScoreboardManager().markActive(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChat(AsyncPlayerChatEvent event) {
+        // Sohbet başka bir thread'de gelir; yönetici çağrıyı ana thread'e taşır
+        plugin.getScoreboardManager().markActive(event.getPlayer());
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.enoboard.listeners;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityRegainHealthEvent;
+import org.bukkit.event.entity.FoodLevelChangeEvent;
+import org.bukkit.event.player.*;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.example.enoboard.EnoBoard;
+import org.example.enoboard.scoreboard.Placeholder;
+
+/**
+ * Placeholder değerlerini değiştiren olayları dinler ve sadece etkilenen oyuncuları
+ * güncellenmek üzere işaretler.
+ */
+public class PlaceholderListener implements Listener {
+
+    private final EnoBoard plugin;
+
+    public PlaceholderListener(EnoBoard plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            mark(player, Placeholder.HEALTH.mask());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegainHealth(EntityRegainHealthEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            mark(player, Placeholder.HEALTH.mask());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFoodLevelChange(FoodLevelChangeEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            mark(player, Placeholder.FOOD.mask());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLevelChange(PlayerLevelChangeEvent event) {
+        mark(event.getPlayer(), Placeholder.LEVEL.mask());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        mark(event.getPlayer(), Placeholder.WORLD.mask() | Placeholder.LOCATION);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        markBlockChange(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        // Araçtaki oyuncular için PlayerMoveEvent gelmez; koordinatlar araçla birlikte değişir
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player player) {
+                markBlockChange(player, event.getFrom(), event.getTo());
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        markBlockChange(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        mark(event.getPlayer(), Placeholder.ALL);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        plugin.getScoreboardManager().markGlobalDirty(Placeholder.ONLINE.mask());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        plugin.getScoreboardManager().markGlobalDirty(Placeholder.ONLINE.mask());
+    }
+
+    private void markBlockChange(Player player, Location from, Location to) {
+        if (to == null) {
+            return;
+        }
+        // Sadece blok koordinatı değiştiğinde; bakış yönü değişimi satırları etkilemez
+        int mask = 0;
+        if (from.getBlockX() != to.getBlockX()) {
+            mask |= Placeholder.X.mask();
+        }
+        if (from.getBlockY() != to.getBlockY()) {
+            mask |= Placeholder.Y.mask();
+        }
+        if (from.getBlockZ() != to.getBlockZ()) {
+            mask |= Placeholder.Z.mask();
+        }
+        if (mask != 0) {
+            mark(player, mask);
+        }
+    }
+
+    private void mark(Player player, int mask) {
+        plugin.getScoreboardManager().markDirty(player, mask);
+    }
+}
@@ -2,6 +2,7 @@ package org.example.enoboard.listeners;
 
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.example.enoboard.EnoBoard;
@@ -14,10 +15,16 @@ public class PlayerListener implements Listener {
         this.plugin = plugin;
     }
 
+    @EventHandler
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        // Tercih dosyası ilk girişte, ana thread dışında okunur
+        plugin.getPreferences().load();
+    }
+
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        // Oyuncu giriş yaptığında scoreboard'u göster
-        plugin.getScoreboardManager().createScoreboard(event.getPlayer());
+        // Oyuncu giriş yaptığında scoreboard'u göster; toplu girişlerde sırayla oluşturulur
+        plugin.getScoreboardManager().queueScoreboard(event.getPlayer());
     }
 
     @EventHandler
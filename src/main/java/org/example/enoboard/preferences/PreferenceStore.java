@@ -0,0 +1,264 @@
+package org.example.enoboard.preferences;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Oyuncu tercihlerinin (sidebar gizli mi, hangi stil) sıkıştırılmış kaydı.
+ * <p>
+ * Her oyuncu için tek bir {@code short} tutulur: alt bayt bayraklar, üst bayt stil numarası.
+ * Stil numaraları dosyanın başındaki isim tablosuna işaret eder; config'deki stillerin sırası
+ * değişse de kayıtlar bozulmaz. Hiçbir oyuncunun kullanmadığı isimler kaydederken tablodan
+ * atılır. Varsayılan tercihler hiç saklanmaz.
+ * <p>
+ * Dosya ilk ihtiyaçta bir kez okunur. Değişiklikler bellekte birikir ve {@link #flush()} ile
+ * tek seferde yazılır; flush herhangi bir thread'den çağrılabilir.
+ * <pre>
+ * int    sürüm
+ * short  stil sayısı, ardından her stil için UTF isim
+ * int    kayıt sayısı, ardından her kayıt için: long msb, long lsb, byte bayraklar, byte stil
+ * </pre>
+ */
+public class PreferenceStore {
+
+    /** Oyuncu sidebar'ı gizledi. */
+    public static final int HIDDEN = 1;
+
+    private static final int VERSION = 1;
+    // Stil numarası bir bayta sığar; 0 = varsayılan stil
+    private static final int MAX_STYLES = 255;
+
+    private final File file;
+    private final Logger logger;
+    private final Map<UUID, Short> entries = new ConcurrentHashMap<>();
+    // Stil isimleri; numara = sıra + 1. Değiştirme işlemleri bu nesnenin kilidi altında yapılır
+    private final List<String> styleNames = new ArrayList<>();
+    private volatile boolean loaded;
+    private volatile boolean dirty;
+
+    public PreferenceStore(File file, Logger logger) {
+        this.file = file;
+        this.logger = logger;
+    }
+
+    /**
+     * Dosyayı henüz okunmadıysa okur. Giriş öncesi eventten çağrılarak ana thread'de
+     * disk beklenmez.
+     */
+    public void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            if (file.isFile()) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+                    read(in);
+                } catch (IOException e) {
+                    // Bozuk dosya saklanır, üzerine yazılmaz; tercihler varsayılandan başlar
+                    logger.log(Level.WARNING, "Tercih dosyası okunamadı: " + file, e);
+                    entries.clear();
+                    styleNames.clear();
+                    File corrupt = new File(file.getPath() + ".corrupt");
+                    if (!file.renameTo(corrupt)) {
+                        logger.warning("Bozuk tercih dosyası taşınamadı: " + file);
+                    }
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    private void read(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Bilinmeyen sürüm: " + version);
+        }
+        int styles = in.readShort();
+        for (int i = 0; i < styles; i++) {
+            styleNames.add(in.readUTF());
+        }
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            UUID uuid = new UUID(in.readLong(), in.readLong());
+            int flags = in.readUnsignedByte();
+            int style = in.readUnsignedByte();
+            entries.put(uuid, pack(flags, style));
+        }
+    }
+
+    public boolean isHidden(UUID uuid) {
+        return (flags(uuid) & HIDDEN) != 0;
+    }
+
+    public synchronized void setHidden(UUID uuid, boolean hidden) {
+        int flags = flags(uuid);
+        update(uuid, hidden ? flags | HIDDEN : flags & ~HIDDEN, styleIndex(uuid));
+    }
+
+    /**
+     * Oyuncunun seçtiği stil; seçmediyse null.
+     */
+    public synchronized String getStyle(UUID uuid) {
+        int style = styleIndex(uuid);
+        return style != 0 && style <= styleNames.size() ? styleNames.get(style - 1) : null;
+    }
+
+    /**
+     * Oyuncunun stilini değiştirir; null varsayılan stile döner.
+     *
+     * @return isim tablosu dolu olduğu için stil saklanamadıysa false
+     */
+    public synchronized boolean setStyle(UUID uuid, String style) {
+        int index = 0;
+        if (style != null) {
+            index = styleNames.indexOf(style) + 1;
+            if (index == 0) {
+                if (styleNames.size() >= MAX_STYLES) {
+                    pruneStyles();
+                    if (styleNames.size() >= MAX_STYLES) {
+                        return false;
+                    }
+                }
+                styleNames.add(style);
+                index = styleNames.size();
+            }
+        }
+        update(uuid, flags(uuid), index);
+        return true;
+    }
+
+    /**
+     * Hiçbir kaydın kullanmadığı stil isimlerini tablodan atar ve kayıtların numaralarını
+     * kaydırır. Kilit altında çağrılır.
+     */
+    private void pruneStyles() {
+        int[] remap = new int[styleNames.size() + 1];
+        for (Short value : entries.values()) {
+            int style = (value >> 8) & 0xFF;
+            if (style < remap.length) {
+                remap[style] = 1;
+            }
+        }
+        List<String> kept = new ArrayList<>();
+        for (int i = 1; i < remap.length; i++) {
+            if (remap[i] != 0) {
+                kept.add(styleNames.get(i - 1));
+                remap[i] = kept.size();
+            }
+        }
+        if (kept.size() == styleNames.size()) {
+            return;
+        }
+        for (Map.Entry<UUID, Short> entry : entries.entrySet()) {
+            int value = entry.getValue();
+            int style = (value >> 8) & 0xFF;
+            if (style == 0) {
+                continue;
+            }
+            short packed = pack(value & 0xFF, style < remap.length ? remap[style] : 0);
+            if (packed == 0) {
+                entries.remove(entry.getKey());
+            } else {
+                entry.setValue(packed);
+            }
+        }
+        styleNames.clear();
+        styleNames.addAll(kept);
+    }
+
+    private int flags(UUID uuid) {
+        load();
+        Short value = entries.get(uuid);
+        return value == null ? 0 : value & 0xFF;
+    }
+
+    private int styleIndex(UUID uuid) {
+        load();
+        Short value = entries.get(uuid);
+        return value == null ? 0 : (value >> 8) & 0xFF;
+    }
+
+    private void update(UUID uuid, int flags, int style) {
+        short value = pack(flags, style);
+        Short previous = value == 0 ? entries.remove(uuid) : entries.put(uuid, value);
+        if ((previous == null ? 0 : previous) != value) {
+            dirty = true;
+        }
+    }
+
+    private static short pack(int flags, int style) {
+        return (short) ((style << 8) | (flags & 0xFF));
+    }
+
+    /**
+     * Bekleyen değişiklikleri dosyaya yazar. Önce geçici dosyaya yazılır, sonra yerine taşınır;
+     * yazma yarıda kalırsa eski dosya bozulmaz.
+     */
+    public void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        List<String> names;
+        Map<UUID, Short> snapshot;
+        synchronized (this) {
+            dirty = false;
+            pruneStyles();
+            names = new ArrayList<>(styleNames);
+            snapshot = new HashMap<>(entries);
+        }
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            dirty = true;
+            throw new IOException("Klasör oluşturulamadı: " + parent);
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+            out.writeInt(VERSION);
+            out.writeShort(names.size());
+            for (String name : names) {
+                out.writeUTF(name);
+            }
+            out.writeInt(snapshot.size());
+            for (Map.Entry<UUID, Short> entry : snapshot.entrySet()) {
+                out.writeLong(entry.getKey().getMostSignificantBits());
+                out.writeLong(entry.getKey().getLeastSignificantBits());
+                out.writeByte(entry.getValue() & 0xFF);
+                out.writeByte((entry.getValue() >> 8) & 0xFF);
+            }
+        } catch (IOException e) {
+            dirty = true;
+            throw e;
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Saklanan (varsayılandan farklı) tercih sayısı.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
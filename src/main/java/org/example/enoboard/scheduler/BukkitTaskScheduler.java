@@ -0,0 +1,43 @@
+package org.example.enoboard.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Bukkit zamanlayıcısı üzerinden çalışan uygulama.
+ */
+public class BukkitTaskScheduler implements TaskScheduler {
+
+    private final Plugin plugin;
+
+    public BukkitTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isMainThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public TaskHandle runTimer(Runnable task, long delay, long period) {
+        BukkitTask handle = Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
+        return handle::cancel;
+    }
+
+    @Override
+    public TaskHandle runAsyncTimer(Runnable task, long delay, long period) {
+        BukkitTask handle = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, delay, period);
+        return handle::cancel;
+    }
+
+    @Override
+    public void runSync(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+}
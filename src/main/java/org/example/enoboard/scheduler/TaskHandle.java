@@ -0,0 +1,9 @@
+package org.example.enoboard.scheduler;
+
+/**
+ * Zamanlanmış bir tekrarlayan görev.
+ */
+public interface TaskHandle {
+
+    void cancel();
+}
@@ -0,0 +1,41 @@
+package org.example.enoboard.scheduler;
+
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Eklentinin görevlerini zamanlar; zamanlama Bukkit'e doğrudan değil bu arayüz üzerinden yapılır.
+ * <p>
+ * Tüm board işleri ana thread'dedir. Event, komut ve web thread'lerinden gelen çağrılar
+ * {@link #runSync(Runnable)} ile ana thread'e taşınır.
+ */
+public interface TaskScheduler {
+
+    /**
+     * Eklentinin zamanlayıcısını oluşturur.
+     */
+    static TaskScheduler create(Plugin plugin) {
+        return new BukkitTaskScheduler(plugin);
+    }
+
+    /**
+     * Şu anki thread sunucunun ana thread'i ise true.
+     */
+    boolean isMainThread();
+
+    /**
+     * Ana thread'de tekrarlayan görev başlatır.
+     *
+     * @param delay ilk çalışmadan önceki bekleme (tick, en az 1)
+     */
+    TaskHandle runTimer(Runnable task, long delay, long period);
+
+    /**
+     * Ana thread dışında tekrarlayan görev başlatır.
+     */
+    TaskHandle runAsyncTimer(Runnable task, long delay, long period);
+
+    /**
+     * Görevi ana thread'de çalıştırır; zaten oradaysa hemen çalışır.
+     */
+    void runSync(Runnable task);
+}
@@ -0,0 +1,16 @@
+package org.example.enoboard.scoreboard;
+
+/**
+ * Oyuncunun son hareketinden beri geçen süreye göre güncelleme seviyesi.
+ */
+public enum ActivityTier {
+
+    /** Tam hızda güncellenir. */
+    ACTIVE,
+
+    /** Bir süredir hareketsiz; satırlar daha seyrek güncellenir. */
+    IDLE,
+
+    /** Uzun süredir hareketsiz; en seyrek seviye, başlık animasyonu durdurulabilir. */
+    AFK
+}
@@ -0,0 +1,71 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+/**
+ * Hareketsiz oyuncuların seviyesini ve her seviyenin güncelleme kurallarını tutar.
+ * <p>
+ * Oyuncu hareket ettiğinde, yazdığında veya etkileşime girdiğinde hemen {@link ActivityTier#ACTIVE}
+ * seviyesine döner; seviyeler düşerken periyodik olarak hesaplanır.
+ */
+public class ActivityTracker {
+
+    private static final ActivityTier[] TIERS = ActivityTier.values();
+
+    private boolean enabled;
+    private long idleAfter = 1200;
+    private long afkAfter = 6000;
+    // Seviye başına satırların en sık güncellenme aralığı (tick, 0 = sınırsız)
+    private final int[] intervals = new int[TIERS.length];
+    private final boolean[] freezeTitle = new boolean[TIERS.length];
+    // Son hesaplamada seviye başına oyuncu sayısı
+    private final int[] counts = new int[TIERS.length];
+
+    public void configure(ConfigurationSection section) {
+        enabled = section != null && section.getBoolean("enabled", false);
+        if (section == null) {
+            return;
+        }
+        idleAfter = Math.max(1, section.getLong("idle.after", 1200));
+        intervals[ActivityTier.IDLE.ordinal()] = Math.max(0, section.getInt("idle.interval", 40));
+        freezeTitle[ActivityTier.IDLE.ordinal()] = section.getBoolean("idle.freeze-title", false);
+        afkAfter = Math.max(idleAfter, section.getLong("afk.after", 6000));
+        intervals[ActivityTier.AFK.ordinal()] = Math.max(0, section.getInt("afk.interval", 200));
+        freezeTitle[ActivityTier.AFK.ordinal()] = section.getBoolean("afk.freeze-title", true);
+    }
+
+    /**
+     * Son aktiviteden beri geçen süreye göre seviye.
+     */
+    public ActivityTier tierOf(long idleTicks) {
+        if (!enabled || idleTicks < idleAfter) {
+            return ActivityTier.ACTIVE;
+        }
+        return idleTicks < afkAfter ? ActivityTier.IDLE : ActivityTier.AFK;
+    }
+
+    /**
+     * Seviyedeki oyuncuların satırlarının en sık güncellenme aralığı (tick, 0 = sınırsız).
+     */
+    public int intervalOf(ActivityTier tier) {
+        return enabled ? intervals[tier.ordinal()] : 0;
+    }
+
+    public boolean freezesTitle(ActivityTier tier) {
+        return enabled && freezeTitle[tier.ordinal()];
+    }
+
+    public void resetCounts() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+    }
+
+    public void count(ActivityTier tier) {
+        counts[tier.ordinal()]++;
+    }
+
+    public int getCount(ActivityTier tier) {
+        return counts[tier.ordinal()];
+    }
+}
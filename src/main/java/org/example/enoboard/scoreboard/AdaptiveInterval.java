@@ -0,0 +1,147 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+/**
+ * Sunucu yüküne göre güncelleme aralığını ayarlar.
+ * <p>
+ * MSPT yükseldiğinde aralık iki katına çıkar (en fazla {@code max-interval}), düştüğünde
+ * yarıya iner (en az {@code min-interval}). İki eşik arasındaki boşluk ve değişiklikler
+ * arasındaki bekleme süresi aralığın sürekli gidip gelmesini engeller.
+ * <p>
+ * MSPT, sunucu sağlıyorsa (Paper) {@code Server#getAverageTickTime()} üzerinden okunur.
+ * Spigot'ta tick'ler arasındaki süre ölçülür; bu yöntem sadece 50 ms'yi aşan gecikmeyi
+ * görebildiği için eşikler yerine tick süresindeki taşma kullanılır.
+ */
+public class AdaptiveInterval {
+
+    private static final double TICK_MS = 50.0;
+    // Tick aralığı ölçümünde sunucunun gecikmede sayılacağı taşma (ms)
+    private static final double LAG_TOLERANCE_MS = 2.5;
+    private static final double SMOOTHING = 0.1;
+
+    private final Method averageTickTime = findAverageTickTime();
+
+    private boolean adaptive;
+    private int baseInterval = 5;
+    private int minInterval = 5;
+    private int maxInterval = 40;
+    private double highMspt = 45.0;
+    private double lowMspt = 30.0;
+    private int cooldownTicks = 100;
+
+    private int current = 5;
+    private String reason = "fixed";
+    private double mspt;
+    private long lastTickNanos;
+    private int ticksSinceChange;
+
+    public void configure(int baseInterval, ConfigurationSection section) {
+        this.baseInterval = Math.max(1, baseInterval);
+        this.adaptive = section != null && section.getBoolean("enabled", false);
+        if (section != null) {
+            minInterval = Math.max(1, section.getInt("min-interval", this.baseInterval));
+            maxInterval = Math.max(minInterval, section.getInt("max-interval", this.baseInterval * 8));
+            highMspt = section.getDouble("high-mspt", 45.0);
+            lowMspt = Math.min(highMspt, section.getDouble("low-mspt", 30.0));
+            cooldownTicks = Math.max(1, section.getInt("cooldown-ticks", 100));
+        }
+        reset();
+    }
+
+    /**
+     * Sabit aralık değiştiğinde ayarları korur, ölçümü baştan başlatır.
+     */
+    public void setBaseInterval(int baseInterval) {
+        this.baseInterval = Math.max(1, baseInterval);
+        reset();
+    }
+
+    private void reset() {
+        current = adaptive ? clamp(baseInterval) : baseInterval;
+        reason = adaptive ? "normal" : "fixed";
+        ticksSinceChange = 0;
+        lastTickNanos = 0;
+    }
+
+    /**
+     * Her tick çağrılır.
+     *
+     * @return geçerli güncelleme aralığı (tick)
+     */
+    public int tick(long nowNanos) {
+        if (!adaptive) {
+            return current;
+        }
+
+        boolean precise = measure(nowNanos);
+        if (++ticksSinceChange < cooldownTicks) {
+            return current;
+        }
+
+        boolean overloaded = precise ? mspt > highMspt : mspt > TICK_MS + LAG_TOLERANCE_MS;
+        boolean healthy = precise ? mspt < lowMspt : mspt < TICK_MS + LAG_TOLERANCE_MS / 2;
+
+        if (overloaded && current < maxInterval) {
+            current = Math.min(maxInterval, current * 2);
+            reason = String.format(Locale.ROOT, "backoff (mspt %.1f)", mspt);
+            ticksSinceChange = 0;
+        } else if (healthy && current > clamp(baseInterval)) {
+            current = Math.max(clamp(baseInterval), current / 2);
+            reason = current == clamp(baseInterval)
+                    ? "normal"
+                    : String.format(Locale.ROOT, "recovering (mspt %.1f)", mspt);
+            ticksSinceChange = 0;
+        }
+        return current;
+    }
+
+    /**
+     * @return MSPT sunucudan okunduysa true, tick aralığından tahmin edildiyse false
+     */
+    private boolean measure(long nowNanos) {
+        if (averageTickTime != null) {
+            try {
+                mspt = ((Number) averageTickTime.invoke(Bukkit.getServer())).doubleValue();
+                return true;
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // Tick aralığı ölçümüne düş
+            }
+        }
+
+        if (lastTickNanos != 0) {
+            double spacing = (nowNanos - lastTickNanos) / 1_000_000.0;
+            mspt = mspt == 0 ? spacing : mspt + (spacing - mspt) * SMOOTHING;
+        }
+        lastTickNanos = nowNanos;
+        return false;
+    }
+
+    private int clamp(int interval) {
+        return Math.max(minInterval, Math.min(maxInterval, interval));
+    }
+
+    public int getInterval() {
+        return current;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public double getMspt() {
+        return mspt;
+    }
+
+    private static Method findAverageTickTime() {
+        try {
+            return Bukkit.getServer().getClass().getMethod("getAverageTickTime");
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+}
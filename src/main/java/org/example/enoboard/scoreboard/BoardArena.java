@@ -0,0 +1,59 @@
+package org.example.enoboard.scoreboard;
+
+import java.util.Arrays;
+
+/**
+ * Aktif boardların sıkışık dizisi.
+ * <p>
+ * Her board girişte bir slot alır. Çıkışta son board boşalan slota taşınır, böylece dizide
+ * boşluk kalmaz ve tick döngüsü hash araması yapmadan {@code 0..size()} arasında dolaşır.
+ * Sadece ana thread'den kullanılır.
+ */
+public class BoardArena {
+
+    private PlayerBoard[] boards = new PlayerBoard[16];
+    private int size;
+
+    /**
+     * Board'a bir slot verir.
+     */
+    public void add(PlayerBoard board) {
+        if (size == boards.length) {
+            boards = Arrays.copyOf(boards, size * 2);
+        }
+        board.setSlot(size);
+        boards[size++] = board;
+    }
+
+    /**
+     * Board'un slotunu boşaltır; son board bu slota taşınır. Dizide geriye doğru
+     * dolaşırken çağrılması güvenlidir.
+     */
+    public void remove(PlayerBoard board) {
+        int slot = board.getSlot();
+        if (slot < 0 || slot >= size || boards[slot] != board) {
+            return;
+        }
+        PlayerBoard last = boards[--size];
+        boards[slot] = last;
+        last.setSlot(slot);
+        boards[size] = null;
+        board.setSlot(-1);
+    }
+
+    public PlayerBoard get(int slot) {
+        return boards[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            boards[i].setSlot(-1);
+            boards[i] = null;
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Aynı içeriği gören oyuncuların ortak kullandığı tek scoreboard.
+ * <p>
+ * Satırların hiçbiri oyuncuya özel placeholder içermiyorsa tüm üyeler aynı metni görür;
+ * board tick başına bir kez güncellenir ve maliyet oyuncu sayısından bağımsız olur.
+ */
+public class BoardGroup {
+
+    private final String key;
+    private final PlayerBoard board;
+    private final Map<UUID, Player> members = new HashMap<>();
+
+    public BoardGroup(String key, PlayerBoard board) {
+        this.key = key;
+        this.board = board;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public PlayerBoard getBoard() {
+        return board;
+    }
+
+    public void addMember(Player player) {
+        members.put(player.getUniqueId(), player);
+    }
+
+    public void removeMember(UUID uuid) {
+        members.remove(uuid);
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+}
@@ -0,0 +1,314 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bukkit Scoreboard API'si ile yazan backend.
+ * <p>
+ * Satırlar {@link RenderMode} ile seçilen yöntemle yazılır. Scoreboardlar {@link ScoreboardPool}'dan
+ * alınır ve kaldırılınca havuza döner. İşlem sayıları Bukkit çağrıları düzeyinde tutulur;
+ * her biri istemciye giden bir pakete karşılık gelir.
+ */
+public class BukkitSidebarBackend implements SidebarBackend {
+
+    // ENTRY modunda entry uzunluk limiti
+    private static final int MAX_ENTRY_LENGTH = 40;
+    // TEAM modunda prefix ve suffix için ayrı ayrı limit
+    private static final int MAX_PART_LENGTH = 64;
+
+    private static final String HEX_PREFIX = ChatColor.COLOR_CHAR + "x";
+    private static final int HEX_LENGTH = 14;
+
+    private static final String[] SLOT_ENTRIES = new String[PlayerBoard.MAX_LINES];
+
+    static {
+        // Her slot için benzersiz ve görünmez entry: renk kodu + reset
+        ChatColor[] colors = ChatColor.values();
+        for (int i = 0; i < PlayerBoard.MAX_LINES; i++) {
+            SLOT_ENTRIES[i] = colors[i].toString() + ChatColor.RESET;
+        }
+    }
+
+    private final ScoreboardPool pool;
+    // Yeni sidebarların modu; var olanlar oluşturuldukları modda kalır
+    private RenderMode mode;
+
+    private long created;
+    private long destroyed;
+    private long shows;
+    private long titles;
+    private long prefixes;
+    private long suffixes;
+    private long scores;
+    private long resets;
+    private long teams;
+
+    public BukkitSidebarBackend(ScoreboardPool pool, RenderMode mode) {
+        this.pool = pool;
+        this.mode = mode;
+    }
+
+    public void setMode(RenderMode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public Sidebar create() {
+        return create(pool.acquire());
+    }
+
+    /**
+     * Verilen scoreboard'a yazan sidebar; scoreboard'un {@value ScoreboardPool#OBJECTIVE_NAME}
+     * objective'i olmalıdır. Testler sahte scoreboard vermek için kullanır.
+     */
+    Sidebar create(Scoreboard scoreboard) {
+        created++;
+        Objective objective = scoreboard.getObjective(ScoreboardPool.OBJECTIVE_NAME);
+        return mode == RenderMode.TEAM
+                ? new TeamSidebar(scoreboard, objective)
+                : new EntrySidebar(scoreboard, objective);
+    }
+
+    @Override
+    public void destroy(Sidebar sidebar) {
+        destroyed++;
+        // Havuz scoreboard'u kendisi temizler
+        pool.release(((BukkitSidebar) sidebar).scoreboard);
+    }
+
+    @Override
+    public void hide(Player viewer) {
+        viewer.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+    }
+
+    @Override
+    public String getName() {
+        return "bukkit";
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("created", created);
+        counts.put("destroyed", destroyed);
+        counts.put("shows", shows);
+        counts.put("titles", titles);
+        counts.put("prefixes", prefixes);
+        counts.put("suffixes", suffixes);
+        counts.put("scores", scores);
+        counts.put("resets", resets);
+        counts.put("teams", teams);
+        return counts;
+    }
+
+    private abstract class BukkitSidebar implements Sidebar {
+
+        final Scoreboard scoreboard;
+        final Objective objective;
+        private String title;
+        int count;
+
+        BukkitSidebar(Scoreboard scoreboard, Objective objective) {
+            this.scoreboard = scoreboard;
+            this.objective = objective;
+            this.title = objective.getDisplayName();
+        }
+
+        @Override
+        public void show(Player viewer) {
+            shows++;
+            viewer.setScoreboard(scoreboard);
+        }
+
+        @Override
+        public void setTitle(String title) {
+            if (title.equals(this.title)) {
+                return;
+            }
+            this.title = title;
+            titles++;
+            objective.setDisplayName(title);
+        }
+
+        void setScore(String entry, int score) {
+            scores++;
+            objective.getScore(entry).setScore(score);
+        }
+
+        void resetScore(String entry) {
+            resets++;
+            scoreboard.resetScores(entry);
+        }
+    }
+
+    /**
+     * Her slot sabit, görünmez bir entry'ye sahiptir; metin takım prefix/suffix'inde durur.
+     * Metin değişince sadece prefix veya suffix paketi gider.
+     */
+    private final class TeamSidebar extends BukkitSidebar {
+
+        private final Team[] slotTeams = new Team[PlayerBoard.MAX_LINES];
+        private final String[] slotPrefixes = new String[PlayerBoard.MAX_LINES];
+        private final String[] slotSuffixes = new String[PlayerBoard.MAX_LINES];
+
+        TeamSidebar(Scoreboard scoreboard, Objective objective) {
+            super(scoreboard, objective);
+        }
+
+        @Override
+        public void setLineCount(int count) {
+            count = Math.min(count, PlayerBoard.MAX_LINES);
+            if (count == this.count) {
+                return;
+            }
+            // Artık kullanılmayan slotları gizle
+            for (int i = count; i < this.count; i++) {
+                resetScore(SLOT_ENTRIES[i]);
+            }
+            // Sıra skorla belirlenir; sayı değişince tüm slotlar yeniden numaralanır
+            for (int i = 0; i < count; i++) {
+                setScore(SLOT_ENTRIES[i], count - i);
+            }
+            this.count = count;
+        }
+
+        @Override
+        public void setLine(int line, String text) {
+            if (line >= count) {
+                return;
+            }
+            writeTeamText(line, text);
+        }
+
+        private Team slotTeam(int slot) {
+            Team team = slotTeams[slot];
+            if (team == null) {
+                String name = "eb-line-" + slot;
+                team = scoreboard.getTeam(name);
+                if (team == null) {
+                    teams++;
+                    team = scoreboard.registerNewTeam(name);
+                }
+                team.addEntry(SLOT_ENTRIES[slot]);
+                slotTeams[slot] = team;
+            }
+            return team;
+        }
+
+        /**
+         * Metni prefix ve suffix'e böler; önceki metinle aynı kalan parçayı tekrar göndermez.
+         */
+        private void writeTeamText(int slot, String text) {
+            String prefix;
+            String suffix;
+            if (text.length() <= MAX_PART_LENGTH) {
+                prefix = text;
+                suffix = "";
+            } else {
+                int cut = MAX_PART_LENGTH;
+                // Renk kodunu ikiye bölme; hex renkler (§x§R§R§G§G§B§B) 14 karakterdir
+                int hexStart = text.lastIndexOf(HEX_PREFIX, cut - 1);
+                if (hexStart >= 0 && cut - hexStart < HEX_LENGTH) {
+                    cut = hexStart;
+                } else if (text.charAt(cut - 1) == ChatColor.COLOR_CHAR) {
+                    cut--;
+                }
+                prefix = text.substring(0, cut);
+                suffix = ChatColor.getLastColors(prefix) + text.substring(cut);
+                if (suffix.length() > MAX_PART_LENGTH) {
+                    suffix = suffix.substring(0, MAX_PART_LENGTH);
+                }
+            }
+
+            Team team = slotTeam(slot);
+            if (!prefix.equals(slotPrefixes[slot])) {
+                prefixes++;
+                team.setPrefix(prefix);
+                slotPrefixes[slot] = prefix;
+            }
+            if (!suffix.equals(slotSuffixes[slot])) {
+                suffixes++;
+                team.setSuffix(suffix);
+                slotSuffixes[slot] = suffix;
+            }
+        }
+    }
+
+    /**
+     * Eski yöntem: satır metninin kendisi scoreboard entry'sidir. Metin değişince eski entry
+     * silinip yenisi yazılır.
+     */
+    private final class EntrySidebar extends BukkitSidebar {
+
+        // Gerçekten yazılan (kesilmiş, benzersizleştirilmiş) entry'ler; boş slotlar null
+        private final String[] entries = new String[PlayerBoard.MAX_LINES];
+
+        EntrySidebar(Scoreboard scoreboard, Objective objective) {
+            super(scoreboard, objective);
+        }
+
+        @Override
+        public void setLineCount(int count) {
+            count = Math.min(count, PlayerBoard.MAX_LINES);
+            if (count == this.count) {
+                return;
+            }
+            for (int i = count; i < this.count; i++) {
+                if (entries[i] != null) {
+                    resetScore(entries[i]);
+                    entries[i] = null;
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                if (entries[i] != null) {
+                    setScore(entries[i], count - i);
+                }
+            }
+            this.count = count;
+        }
+
+        @Override
+        public void setLine(int line, String text) {
+            if (line >= count) {
+                return;
+            }
+            String entry = text;
+
+            // 40 karakter limiti
+            if (entry.length() > MAX_ENTRY_LENGTH) {
+                entry = entry.substring(0, MAX_ENTRY_LENGTH);
+            }
+
+            // Aynı satırları farklı yapmak için boşluk ekle
+            while (usedByOther(line, entry)) {
+                entry += " ";
+            }
+            String previous = entries[line];
+            if (entry.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                resetScore(previous);
+            }
+            entries[line] = entry;
+            setScore(entry, count - line);
+        }
+
+        private boolean usedByOther(int line, String entry) {
+            for (int i = 0; i < count; i++) {
+                if (i != line && entry.equals(entries[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.enoboard.scoreboard;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Efektlerin ürettiği derlenmiş karelerin boyutu sınırlı LRU önbelleği.
+ * <p>
+ * Uzun efektlerin tüm kareleri bellekte tutulmaz; sadece son kullanılanlar saklanır,
+ * gerisi tekrar gerektiğinde yeniden üretilir. Sadece ana thread'den kullanılır.
+ */
+public class FrameCache {
+
+    private int maxSize = 512;
+    private long hits;
+    private long misses;
+
+    private final Map<Key, LineTemplate> frames = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, LineTemplate> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * Efektin verilen karesini döndürür; önbellekte yoksa üretip derler.
+     */
+    public LineTemplate get(TextEffect effect, int index, int refreshInterval) {
+        Key key = new Key(effect, index, refreshInterval);
+        LineTemplate frame = frames.get(key);
+        if (frame != null) {
+            hits++;
+            return frame;
+        }
+        misses++;
+        frame = LineTemplate.compile(effect.frame(index), refreshInterval);
+        frames.put(key, frame);
+        return frame;
+    }
+
+    public void setMaxSize(int size) {
+        maxSize = Math.max(1, size);
+        // Küçültüldüyse en eski kareleri hemen bırak
+        Iterator<Map.Entry<Key, LineTemplate>> iterator = frames.entrySet().iterator();
+        while (frames.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public void clear() {
+        frames.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    public int size() {
+        return frames.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    private record Key(TextEffect effect, int index, int refreshInterval) {
+    }
+}
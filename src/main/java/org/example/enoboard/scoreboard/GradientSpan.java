@@ -0,0 +1,73 @@
+package org.example.enoboard.scoreboard;
+
+/**
+ * Placeholder içeren gradient. Değerin uzunluğu ancak render sırasında belli olduğu için
+ * renkler o an uygulanır; renk adımları uzunluğa göre {@link TextColors#steps} önbelleğinden
+ * gelir, render sırasında hiçbir renk kodu ayrıştırılmaz.
+ */
+final class GradientSpan implements TemplateSlot {
+
+    // Render için thread başına tekrar kullanılan builder
+    private static final ThreadLocal<StringBuilder> VISIBLE = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+    private final int from;
+    private final int to;
+    // Her renkten sonra eklenen, çevrilmiş biçim kodları
+    private final String format;
+    // literals.length == placeholders.length + 1, renk kodu içermez
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final int mask;
+    private final TemplateScope scope;
+    // Son render'daki uzunluğun renk adımları; değerin uzunluğu çoğu zaman değişmediği için
+    // her render'da önbellek anahtarı oluşturulmaz
+    private volatile String[] lastSteps;
+
+    GradientSpan(int from, int to, String format, String[] literals, Placeholder[] placeholders) {
+        this.from = from;
+        this.to = to;
+        this.format = format;
+        this.literals = literals;
+        this.placeholders = placeholders;
+
+        TemplateScope widest = TemplateScope.STATIC;
+        int used = 0;
+        for (Placeholder placeholder : placeholders) {
+            widest = widest.widen(placeholder.getScope());
+            used |= placeholder.mask();
+        }
+        this.scope = widest;
+        this.mask = used;
+    }
+
+    @Override
+    public void appendTo(StringBuilder builder, RenderContext context) {
+        StringBuilder visible = VISIBLE.get();
+        visible.setLength(0);
+        visible.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            placeholders[i].appendTo(visible, context);
+            visible.append(literals[i + 1]);
+        }
+        int length = Character.codePointCount(visible, 0, visible.length());
+        if (length == 0) {
+            return;
+        }
+        String[] steps = lastSteps;
+        if (steps == null || steps.length != length) {
+            steps = TextColors.steps(from, to, length);
+            lastSteps = steps;
+        }
+        TextColors.appendGradient(builder, visible, steps, format);
+    }
+
+    @Override
+    public int mask() {
+        return mask;
+    }
+
+    @Override
+    public TemplateScope getScope() {
+        return scope;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Board oluşturma kuyruğu.
+ * <p>
+ * Toplu girişlerde (restart, proxy değişimi) yüzlerce board aynı tick'te oluşturulmaz;
+ * oyuncular giriş sırasına göre tick başına sınırlı sayıda kabul edilir. En uzun bekleyen
+ * her zaman önce gelir ve en fazla bekleme süresini dolduran oyuncu sınır aşılsa da kabul edilir.
+ * Sadece ana thread'den kullanılır.
+ */
+public class JoinQueue {
+
+    // Giriş sırasını korur; en eski oyuncu başta
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>();
+
+    private long admitted;
+    private long maxWaitTicks;
+
+    /**
+     * Oyuncuyu kuyruğa ekler; zaten bekliyorsa sırası korunur.
+     */
+    public void offer(Player player, long tick) {
+        entries.putIfAbsent(player.getUniqueId(), new Entry(player, tick));
+    }
+
+    public void remove(UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    /**
+     * Sırası gelen oyuncuları kabul eder.
+     *
+     * @param perTick  bu tick'te en fazla kabul edilecek oyuncu
+     * @param maxDelay bu kadar tick bekleyen oyuncu sınıra bakılmadan kabul edilir
+     * @param overBudget true dönerse tick bütçesi dolmuştur; ilk kabulden sonra kalanlar beklemeye devam eder
+     */
+    public void drain(long tick, int perTick, int maxDelay, BooleanSupplier overBudget, Consumer<Player> admit) {
+        int count = 0;
+        while (!entries.isEmpty()) {
+            if (count > 0 && overBudget.getAsBoolean()) {
+                return;
+            }
+            Entry entry = entries.values().iterator().next();
+            long waited = tick - entry.tick;
+            if (count >= perTick && waited < maxDelay) {
+                // Sıradakiler daha yeni; bu tick'lik kota doldu
+                return;
+            }
+            // Kabul sırasında kuyruk değişebilir, bu yüzden önce çıkarılır
+            entries.remove(entry.player.getUniqueId());
+            if (!entry.player.isOnline()) {
+                continue;
+            }
+            admit.accept(entry.player);
+            count++;
+            admitted++;
+            maxWaitTicks = Math.max(maxWaitTicks, waited);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getAdmitted() {
+        return admitted;
+    }
+
+    public long getMaxWaitTicks() {
+        return maxWaitTicks;
+    }
+
+    private static final class Entry {
+        private final Player player;
+        private final long tick;
+
+        private Entry(Player player, long tick) {
+            this.player = player;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.enoboard.scoreboard;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Render edilen satırlar için zayıf referanslı intern havuzu.
+ * <p>
+ * Farklı oyuncularda birebir aynı çıkan satırlar ({@code Dünya: world}, {@code Online: 42/100})
+ * tek bir String örneğini paylaşır. Hiçbir board'un kullanmadığı metinler GC tarafından
+ * toplanır. Paralel render thread'lerinden de güvenle çağrılabilir.
+ */
+public final class LineInterner {
+
+    private static final Interner<String> LINES = Interners.newWeakInterner();
+
+    private static final LongAdder LOOKUPS = new LongAdder();
+    private static final LongAdder DEDUPED = new LongAdder();
+
+    private LineInterner() {
+    }
+
+    /**
+     * Metnin havuzdaki örneğini döndürür; yoksa bu örnek havuza eklenir.
+     */
+    public static String intern(String line) {
+        String interned = LINES.intern(line);
+        LOOKUPS.increment();
+        if (interned != line) {
+            DEDUPED.increment();
+        }
+        return interned;
+    }
+
+    public static long getLookups() {
+        return LOOKUPS.sum();
+    }
+
+    /**
+     * Yeni render edilen satırlardan havuzdaki bir örnekle değiştirilenlerin oranı (0-1).
+     */
+    public static double getDedupeRatio() {
+        long lookups = LOOKUPS.sum();
+        return lookups == 0 ? 0 : (double) DEDUPED.sum() / lookups;
+    }
+}
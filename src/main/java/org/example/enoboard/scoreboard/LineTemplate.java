@@ -0,0 +1,199 @@
+package org.example.enoboard.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Yükleme sırasında derlenmiş satır şablonu.
+ * Metin, renk kodları çevrilmiş sabit parçalar ve aralarındaki placeholder slotlarından oluşur;
+ * render sırasında tek geçişte builder'a yazılır. Hex renkler ve gradientler de derleme
+ * sırasında çevrilir, render sırasında renk kodu ayrıştırılmaz.
+ */
+public final class LineTemplate {
+
+    // Render için thread başına tekrar kullanılan builder
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    static final String GRADIENT_OPEN = "<gradient:";
+    static final String GRADIENT_CLOSE = "</gradient>";
+
+    // literals.length == slots.length + 1
+    private final String[] literals;
+    private final TemplateSlot[] slots;
+    private final TemplateScope scope;
+    // Şablonun kullandığı placeholderların bit maskesi
+    private final int mask;
+    // En az kaç tick'te bir yeniden render edilebilir (0 = her güncellemede)
+    private final int refreshInterval;
+
+    private LineTemplate(String[] literals, TemplateSlot[] slots, int refreshInterval) {
+        this.refreshInterval = Math.max(0, refreshInterval);
+        this.literals = literals;
+        this.slots = slots;
+
+        TemplateScope widest = TemplateScope.STATIC;
+        int used = 0;
+        for (TemplateSlot slot : slots) {
+            widest = widest.widen(slot.getScope());
+            used |= slot.mask();
+        }
+        this.scope = widest;
+        this.mask = used;
+    }
+
+    public static LineTemplate compile(String source) {
+        return compile(source, 0);
+    }
+
+    public static LineTemplate compile(String source, int refreshInterval) {
+        List<String> literals = new ArrayList<>();
+        List<TemplateSlot> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(GRADIENT_OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int headerEnd = source.indexOf('>', open);
+            String[] colors = headerEnd < 0
+                    ? new String[0]
+                    : source.substring(open + GRADIENT_OPEN.length(), headerEnd).split(":");
+            int from = colors.length == 2 ? TextColors.parseColor(colors[0]) : -1;
+            int to = colors.length == 2 ? TextColors.parseColor(colors[1]) : -1;
+            if (from < 0 || to < 0) {
+                // Geçersiz etiket düz metin olarak kalır
+                appendPlain(source.substring(position, open + 1), literal, literals, slots);
+                position = open + 1;
+                continue;
+            }
+
+            appendPlain(source.substring(position, open), literal, literals, slots);
+            int close = source.indexOf(GRADIENT_CLOSE, headerEnd);
+            int contentEnd = close < 0 ? source.length() : close;
+            appendGradient(source.substring(headerEnd + 1, contentEnd), from, to, literal, literals, slots);
+            position = close < 0 ? source.length() : close + GRADIENT_CLOSE.length();
+        }
+        appendPlain(source.substring(Math.min(position, source.length())), literal, literals, slots);
+        literals.add(literal.toString());
+
+        return new LineTemplate(literals.toArray(new String[0]),
+                slots.toArray(new TemplateSlot[0]),
+                refreshInterval);
+    }
+
+    /**
+     * Gradient dışındaki metni renk kodlarını çevirerek ve placeholderları slot yaparak ekler.
+     */
+    private static void appendPlain(String text, StringBuilder literal, List<String> literals, List<TemplateSlot> slots) {
+        int literalStart = 0;
+        int index = text.indexOf('%');
+        while (index >= 0) {
+            Placeholder placeholder = Placeholder.match(text, index);
+            if (placeholder == null) {
+                index = text.indexOf('%', index + 1);
+                continue;
+            }
+            literal.append(TextColors.colorize(text.substring(literalStart, index)));
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(placeholder);
+            literalStart = index + placeholder.getKey().length();
+            index = text.indexOf('%', literalStart);
+        }
+        literal.append(TextColors.colorize(text.substring(literalStart)));
+    }
+
+    /**
+     * Placeholder içermeyen gradient hazır metin olarak eklenir; içerenler render sırasında
+     * önceden hesaplanmış renk adımlarıyla boyanan bir slot olur.
+     */
+    private static void appendGradient(String content, int from, int to, StringBuilder literal,
+                                       List<String> literals, List<TemplateSlot> slots) {
+        StringBuilder visible = new StringBuilder(content.length());
+        String format = TextColors.stripFormat(content, visible);
+        String text = visible.toString();
+
+        List<String> parts = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int partStart = 0;
+        int index = text.indexOf('%');
+        while (index >= 0) {
+            Placeholder placeholder = Placeholder.match(text, index);
+            if (placeholder == null) {
+                index = text.indexOf('%', index + 1);
+                continue;
+            }
+            parts.add(text.substring(partStart, index));
+            placeholders.add(placeholder);
+            partStart = index + placeholder.getKey().length();
+            index = text.indexOf('%', partStart);
+        }
+
+        if (placeholders.isEmpty()) {
+            literal.append(TextColors.gradient(from, to, content));
+            return;
+        }
+        parts.add(text.substring(partStart));
+        literals.add(literal.toString());
+        literal.setLength(0);
+        slots.add(new GradientSpan(from, to, format,
+                parts.toArray(new String[0]),
+                placeholders.toArray(new Placeholder[0])));
+    }
+
+    public TemplateScope getScope() {
+        return scope;
+    }
+
+    public int getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Şablonun verilen placeholder değişikliklerinden etkilenip etkilenmediği.
+     */
+    public boolean dependsOn(int placeholderMask) {
+        return (mask & placeholderMask) != 0;
+    }
+
+    /**
+     * STATIC şablonların yükleme sırasında hazırlanmış metni.
+     */
+    public String getStaticText() {
+        return scope == TemplateScope.STATIC ? literals[0] : null;
+    }
+
+    /**
+     * Şablonu verilen builder'a yazar. Builder temizlenmez.
+     */
+    public void appendTo(StringBuilder builder, RenderContext context) {
+        builder.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            slots[i].appendTo(builder, context);
+            builder.append(literals[i + 1]);
+        }
+    }
+
+    /**
+     * Şablonu render eder; çıktı bir önceki çıktıyla aynıysa yeni String oluşturmadan
+     * öncekini döndürür. Değişmeyen satırlar böylece hiç allocation yapmaz.
+     */
+    public String render(RenderContext context, String previous) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = BUFFER.get();
+        builder.setLength(0);
+        appendTo(builder, context);
+        if (previous != null && previous.contentEquals(builder)) {
+            return previous;
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Hiçbir şey göndermeyen, sidebarların son halini bellekte tutan backend.
+ * <p>
+ * Motoru sunucu olmadan test etmek ve ölçmek içindir: her sidebar'ın başlığı, satırları ve
+ * izleyicileri okunabilir, işlem sayıları arayüz düzeyinde tutulur.
+ */
+public class MemorySidebarBackend implements SidebarBackend {
+
+    private final List<MemorySidebar> sidebars = new ArrayList<>();
+
+    private long created;
+    private long destroyed;
+    private long shows;
+    private long hides;
+    private long titles;
+    private long lines;
+    private long lineCounts;
+
+    @Override
+    public Sidebar create() {
+        created++;
+        MemorySidebar sidebar = new MemorySidebar();
+        sidebars.add(sidebar);
+        return sidebar;
+    }
+
+    @Override
+    public void destroy(Sidebar sidebar) {
+        destroyed++;
+        MemorySidebar memory = (MemorySidebar) sidebar;
+        memory.destroyed = true;
+        sidebars.remove(memory);
+    }
+
+    @Override
+    public void hide(Player viewer) {
+        hides++;
+        for (MemorySidebar sidebar : sidebars) {
+            sidebar.viewers.remove(viewer.getUniqueId());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    /**
+     * Kaldırılmamış sidebarlar, oluşturulma sırasıyla.
+     */
+    public List<MemorySidebar> getSidebars() {
+        return Collections.unmodifiableList(sidebars);
+    }
+
+    /**
+     * Oyuncunun şu an gördüğü sidebar; yoksa null.
+     */
+    public MemorySidebar getSidebar(UUID viewer) {
+        for (MemorySidebar sidebar : sidebars) {
+            if (sidebar.viewers.contains(viewer)) {
+                return sidebar;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("created", created);
+        counts.put("destroyed", destroyed);
+        counts.put("shows", shows);
+        counts.put("hides", hides);
+        counts.put("titles", titles);
+        counts.put("lines", lines);
+        counts.put("lineCounts", lineCounts);
+        return counts;
+    }
+
+    public class MemorySidebar implements Sidebar {
+
+        private final Set<UUID> viewers = new HashSet<>();
+        private final String[] text = new String[PlayerBoard.MAX_LINES];
+        private String title = "";
+        private int count;
+        private boolean destroyed;
+
+        @Override
+        public void show(Player viewer) {
+            shows++;
+            // Bir oyuncu aynı anda tek sidebar görür
+            for (MemorySidebar sidebar : sidebars) {
+                sidebar.viewers.remove(viewer.getUniqueId());
+            }
+            viewers.add(viewer.getUniqueId());
+        }
+
+        @Override
+        public void setTitle(String title) {
+            titles++;
+            this.title = title;
+        }
+
+        @Override
+        public void setLine(int line, String text) {
+            lines++;
+            if (line < count) {
+                this.text[line] = text;
+            }
+        }
+
+        @Override
+        public void setLineCount(int count) {
+            lineCounts++;
+            count = Math.min(count, PlayerBoard.MAX_LINES);
+            Arrays.fill(text, count, text.length, null);
+            for (int i = this.count; i < count; i++) {
+                text[i] = "";
+            }
+            this.count = count;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        /**
+         * Gösterilen satırlar, yukarıdan aşağıya.
+         */
+        public List<String> getLines() {
+            return Arrays.asList(Arrays.copyOf(text, count));
+        }
+
+        public Set<UUID> getViewers() {
+            return Collections.unmodifiableSet(viewers);
+        }
+
+        public boolean isDestroyed() {
+            return destroyed;
+        }
+    }
+}
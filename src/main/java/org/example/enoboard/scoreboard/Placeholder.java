@@ -0,0 +1,82 @@
+package org.example.enoboard.scoreboard;
+
+/**
+ * Satırlarda kullanılabilen placeholderlar.
+ */
+public enum Placeholder implements TemplateSlot {
+
+    PLAYER("%player%", TemplateScope.PLAYER),
+    ONLINE("%online%", TemplateScope.GLOBAL),
+    MAX("%max%", TemplateScope.GLOBAL),
+    WORLD("%world%", TemplateScope.PLAYER),
+    HEALTH("%health%", TemplateScope.PLAYER),
+    FOOD("%food%", TemplateScope.PLAYER),
+    LEVEL("%level%", TemplateScope.PLAYER),
+    X("%x%", TemplateScope.PLAYER),
+    Y("%y%", TemplateScope.PLAYER),
+    Z("%z%", TemplateScope.PLAYER);
+
+    private static final Placeholder[] VALUES = values();
+
+    /** Tüm placeholderların bit maskesi. */
+    public static final int ALL = (1 << VALUES.length) - 1;
+
+    /** Konum placeholderlarının bit maskesi. */
+    public static final int LOCATION = X.mask() | Y.mask() | Z.mask();
+
+    private final String key;
+    private final TemplateScope scope;
+
+    Placeholder(String key, TemplateScope scope) {
+        this.key = key;
+        this.scope = scope;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public TemplateScope getScope() {
+        return scope;
+    }
+
+    /**
+     * Dirty takibinde kullanılan bit.
+     */
+    @Override
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Placeholder değerini doğrudan builder'a yazar, ara String oluşturmaz.
+     */
+    @Override
+    public void appendTo(StringBuilder builder, RenderContext context) {
+        switch (this) {
+            case PLAYER -> builder.append(context.getPlayerName());
+            case ONLINE -> builder.append(context.getOnlinePlayers());
+            case MAX -> builder.append(context.getMaxPlayers());
+            case WORLD -> builder.append(context.getWorldName());
+            case HEALTH -> builder.append(context.getHealth());
+            case FOOD -> builder.append(context.getFoodLevel());
+            case LEVEL -> builder.append(context.getLevel());
+            case X -> builder.append(context.getBlockX());
+            case Y -> builder.append(context.getBlockY());
+            case Z -> builder.append(context.getBlockZ());
+        }
+    }
+
+    /**
+     * Verilen konumda başlayan placeholder'ı bulur, yoksa null döner.
+     */
+    static Placeholder match(String text, int index) {
+        for (Placeholder placeholder : VALUES) {
+            if (text.startsWith(placeholder.key, index)) {
+                return placeholder;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,313 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bir oyuncunun sidebar'ı ve en son gönderilen satırları.
+ * Satırlar her tick'te sıfırlanıp yeniden yazılmaz; yalnızca değişen slotlar backend'e gönderilir.
+ */
+public class PlayerBoard {
+
+    /** Sidebar en fazla 15 satır gösterir. */
+    public static final int MAX_LINES = 15;
+
+    /** Tüm satırları gösteren maske. */
+    public static final long ALL_LINES = -1L;
+
+    private static final String[] EMPTY = new String[0];
+
+    private final Player player;
+    private final SidebarBackend.Sidebar sidebar;
+
+    // Son render'dan beri değişen placeholderların bit maskesi
+    private int dirty;
+    private boolean queued;
+    private int bucket;
+    // BoardArena içindeki yeri, arenada değilse -1
+    private int slot = -1;
+    // Paralel render'da hesaplanmakta olan iş; uygulanana kadar board tekrar render edilmez
+    private RenderJob renderJob;
+    private boolean rendering;
+    // Son render'ın girdilerinin parmak izi; aynıysa board hiç render edilmez
+    private long fingerprint;
+    private boolean hasFingerprint;
+    private boolean closed;
+    // Aktivite seviyesi; grup boardları her zaman ACTIVE kalır
+    private ActivityTier tier = ActivityTier.ACTIVE;
+    // Oyuncunun son aktivitesinin ve board'un son render edilişinin tick'i
+    private long lastActivity;
+    private long lastUpdateTick;
+    // Gösterilecek satırların sırası; board'un ömrü boyunca değişmez, stil değişince board yeniden oluşturulur
+    private long lineMask = ALL_LINES;
+
+    private String title;
+    private String[] renderedLines = EMPTY;
+    // Bir sonraki render'ın yazılacağı dizi; applyLines sonrası renderedLines ile yer değiştirir
+    private String[] pendingLines = EMPTY;
+    // Her satırın en son render edildiği tick
+    private long[] lineRenderedAt = new long[0];
+    // Her satırın en son hangi şablondan render edildiği; animasyon karesi değişince farklılaşır
+    private LineTemplate[] lineTemplates = new LineTemplate[0];
+    // Yenileme aralığı dolmadığı için ertelenen placeholder değişiklikleri
+    private int deferredDirty;
+
+    public PlayerBoard(Player player, SidebarBackend.Sidebar sidebar, int bucket) {
+        this.player = player;
+        this.bucket = bucket;
+        this.sidebar = sidebar;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public SidebarBackend.Sidebar getSidebar() {
+        return sidebar;
+    }
+
+    public int getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(int bucket) {
+        this.bucket = bucket;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * Gösterilecek satırları seçer; ilk render'dan önce çağrılmalıdır. Maskede olmayan
+     * satırlar hiç render edilmez.
+     */
+    public void setLineMask(long lineMask) {
+        this.lineMask = lineMask;
+    }
+
+    public ActivityTier getTier() {
+        return tier;
+    }
+
+    public void setTier(ActivityTier tier) {
+        this.tier = tier;
+    }
+
+    public long getLastActivity() {
+        return lastActivity;
+    }
+
+    public void setLastActivity(long tick) {
+        this.lastActivity = tick;
+    }
+
+    public long getLastUpdateTick() {
+        return lastUpdateTick;
+    }
+
+    public void setLastUpdateTick(long tick) {
+        this.lastUpdateTick = tick;
+    }
+
+    /**
+     * Placeholder değişikliklerini işaretler.
+     *
+     * @return board henüz güncelleme kuyruğunda değilse true; çağıran kuyruğa eklemelidir
+     */
+    public boolean markDirty(int mask) {
+        dirty |= mask;
+        if (queued || closed) {
+            return false;
+        }
+        queued = true;
+        return true;
+    }
+
+    /**
+     * Kuyruktan alınan board'un dirty durumunu sıfırlar ve bekleyen maskeyi döndürür.
+     */
+    public int takeDirty() {
+        int mask = dirty;
+        dirty = 0;
+        queued = false;
+        return mask;
+    }
+
+    /**
+     * Parmak izi son render'dakiyle aynıysa true döner; değilse yenisini kaydeder.
+     */
+    public boolean sameFingerprint(long fingerprint) {
+        if (hasFingerprint && this.fingerprint == fingerprint) {
+            return true;
+        }
+        this.fingerprint = fingerprint;
+        this.hasFingerprint = true;
+        return false;
+    }
+
+    public void clearFingerprint() {
+        hasFingerprint = false;
+    }
+
+    public boolean isRendering() {
+        return rendering;
+    }
+
+    public void setRendering(boolean rendering) {
+        this.rendering = rendering;
+    }
+
+    /**
+     * Board'a ait tekrar kullanılan render işi.
+     */
+    public RenderJob getRenderJob() {
+        if (renderJob == null) {
+            renderJob = new RenderJob(this);
+        }
+        return renderJob;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void close() {
+        closed = true;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Başlığı sadece metin değiştiyse gönderir; ardışık aynı kareler paket üretmez.
+     */
+    public void setTitle(String title) {
+        if (title == this.title || title.equals(this.title)) {
+            return;
+        }
+        this.title = title;
+        sidebar.setTitle(title);
+    }
+
+    /**
+     * Son gönderilen satır; yoksa null.
+     */
+    public String getLine(int index) {
+        return index < renderedLines.length ? renderedLines[index] : null;
+    }
+
+    /**
+     * Yeni satırların yazılacağı diziyi döndürür. Dizi her tick yeniden oluşturulmaz;
+     * doldurulduktan sonra {@link #applyLines(String[])} ile uygulanmalıdır.
+     */
+    public String[] beginLines(int size) {
+        if (pendingLines.length != size) {
+            pendingLines = new String[size];
+        }
+        return pendingLines;
+    }
+
+    /**
+     * Satırları render eder ve yazılacak diziyi döndürür; scoreboard'a dokunmaz.
+     * Sadece verilen placeholderlardan etkilenen oyuncuya özel satırlar render edilir,
+     * diğerleri son gönderilen metni korur.
+     */
+    public String[] renderLines(List<LineTemplate> templates, String[] shared, RenderContext context, int dirty, long now) {
+        int size = templates.size();
+        String[] rendered = beginLines(visibleCount(size));
+        // Zamanlama şablon sırasıyla, metinler gösterilen slot sırasıyla tutulur
+        if (lineRenderedAt.length != size) {
+            int oldLength = lineRenderedAt.length;
+            lineRenderedAt = Arrays.copyOf(lineRenderedAt, size);
+            Arrays.fill(lineRenderedAt, Math.min(oldLength, size), size, Long.MIN_VALUE / 2);
+            lineTemplates = Arrays.copyOf(lineTemplates, size);
+        }
+
+        int deferred = 0;
+        int slot = 0;
+        for (int i = 0; i < size; i++) {
+            if (!isVisible(i)) {
+                continue;
+            }
+            String previous = getLine(slot);
+            LineTemplate template = templates.get(i);
+            // Kare değiştiyse satır aralığı beklenmeden yeniden yazılır
+            boolean sameTemplate = previous != null && lineTemplates[i] == template;
+            if (shared[i] != null) {
+                // Ortak satırlar hazır
+                rendered[slot] = shared[i];
+                lineTemplates[i] = template;
+            } else if (sameTemplate && !template.dependsOn(dirty)) {
+                rendered[slot] = previous;
+            } else if (sameTemplate && now - lineRenderedAt[i] < template.getRefreshInterval()) {
+                // Satırın yenileme aralığı dolmadı; değişiklik sonraki güncellemeye kalır
+                rendered[slot] = previous;
+                deferred |= template.getMask() & dirty;
+            } else {
+                String text = template.render(context, previous);
+                // Diğer oyuncularda da aynı çıkan satırlar tek örneği paylaşır
+                rendered[slot] = text == previous ? previous : LineInterner.intern(text);
+                lineRenderedAt[i] = now;
+                lineTemplates[i] = template;
+            }
+            slot++;
+        }
+        deferredDirty = deferred;
+        return rendered;
+    }
+
+    private boolean isVisible(int line) {
+        return line >= Long.SIZE ? lineMask == ALL_LINES : (lineMask & (1L << line)) != 0;
+    }
+
+    private int visibleCount(int size) {
+        if (lineMask == ALL_LINES) {
+            return size;
+        }
+        long mask = size >= Long.SIZE ? lineMask : lineMask & ((1L << size) - 1);
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Son render'da aralığı dolmadığı için ertelenen placeholder değişikliklerini döndürür.
+     */
+    public int takeDeferredDirty() {
+        int mask = deferredDirty;
+        deferredDirty = 0;
+        return mask;
+    }
+
+    /**
+     * Şablonlar değiştiğinde satır zamanlamasını sıfırlar ki yeni satırlar hemen yazılsın.
+     */
+    public void resetLineSchedule() {
+        Arrays.fill(lineRenderedAt, Long.MIN_VALUE / 2);
+    }
+
+    /**
+     * Yeni satırları son gönderilenlerle karşılaştırır ve sadece farklı olan slotları günceller.
+     */
+    public void applyLines(String[] lines) {
+        String[] previous = renderedLines;
+        int size = Math.min(lines.length, MAX_LINES);
+        int previousSize = Math.min(previous.length, MAX_LINES);
+        if (size != previousSize) {
+            sidebar.setLineCount(size);
+        }
+        for (int i = 0; i < size; i++) {
+            if (i >= previousSize || !previous[i].equals(lines[i])) {
+                sidebar.setLine(i, lines[i]);
+            }
+        }
+        renderedLines = lines;
+        pendingLines = previous;
+    }
+}
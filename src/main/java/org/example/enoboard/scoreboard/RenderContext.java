@@ -0,0 +1,212 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * Render sırasında placeholderlara değer sağlar.
+ * Sunucu geneli değerler tick başına bir kez alınır ve tüm oyuncular için paylaşılır.
+ * Oyuncu değerleri ilk ihtiyaç duyulduğunda bir kez okunur ve o oyuncunun tüm satırları
+ * ile başlığı için tekrar kullanılır; kullanılmayan değerler hiç okunmaz.
+ * <p>
+ * Paralel render için {@link #capture(Player, int, RenderContext)} gerekli değerleri ana
+ * thread'de önceden okur; bu şekilde hazırlanan bir bağlam Bukkit'e hiç dokunmaz.
+ */
+public class RenderContext {
+
+    private static final int LOCATION = 1;
+    private static final int WORLD = 1 << 1;
+    private static final int HEALTH = 1 << 2;
+    private static final int FOOD = 1 << 3;
+    private static final int LEVEL = 1 << 4;
+    private static final int NAME = 1 << 5;
+
+    private int onlinePlayers;
+    private int maxPlayers;
+
+    private Player player;
+    // Bu oyuncu için okunmuş değerlerin bit maskesi
+    private int loaded;
+    private String playerName;
+    private int blockX;
+    private int blockY;
+    private int blockZ;
+    private String worldName;
+    private int health;
+    private int foodLevel;
+    private int level;
+
+    /**
+     * Tick başında sunucu geneli değerleri yeniler.
+     */
+    public void refreshGlobals() {
+        onlinePlayers = Bukkit.getOnlinePlayers().size();
+        maxPlayers = Bukkit.getMaxPlayers();
+    }
+
+    /**
+     * Bağlamı yeni bir oyuncuya geçirir; önceki oyuncunun değerleri unutulur.
+     */
+    public RenderContext forPlayer(Player player) {
+        this.player = player;
+        this.loaded = 0;
+        this.worldName = null;
+        this.playerName = null;
+        return this;
+    }
+
+    /**
+     * Verilen placeholderların ihtiyaç duyduğu oyuncu değerlerini şimdi okur ve sunucu
+     * geneli değerleri kopyalar. Sonuç başka bir thread'de güvenle kullanılabilir.
+     * Ana thread'de çağrılmalıdır.
+     */
+    public RenderContext capture(Player player, int placeholderMask, RenderContext globals) {
+        forPlayer(player);
+        this.onlinePlayers = globals.onlinePlayers;
+        this.maxPlayers = globals.maxPlayers;
+
+        if ((placeholderMask & Placeholder.PLAYER.mask()) != 0) {
+            getPlayerName();
+        }
+        if ((placeholderMask & Placeholder.WORLD.mask()) != 0) {
+            getWorldName();
+        }
+        if ((placeholderMask & Placeholder.HEALTH.mask()) != 0) {
+            getHealth();
+        }
+        if ((placeholderMask & Placeholder.FOOD.mask()) != 0) {
+            getFoodLevel();
+        }
+        if ((placeholderMask & Placeholder.LEVEL.mask()) != 0) {
+            getLevel();
+        }
+        if ((placeholderMask & Placeholder.LOCATION) != 0) {
+            loadLocation();
+        }
+
+        // Bundan sonra Bukkit'e erişim yok
+        this.player = null;
+        return this;
+    }
+
+    /**
+     * Verilen placeholderların şu anki değerlerinden hesaplanan parmak izi.
+     * Aynı parmak izi, bu placeholderlara bağlı satırların aynı çıktıyı vereceği anlamına gelir.
+     */
+    public long fingerprint(int placeholderMask) {
+        long hash = 0;
+        if ((placeholderMask & Placeholder.PLAYER.mask()) != 0) {
+            hash = mix(hash, getPlayerName().hashCode());
+        }
+        if ((placeholderMask & Placeholder.ONLINE.mask()) != 0) {
+            hash = mix(hash, onlinePlayers);
+        }
+        if ((placeholderMask & Placeholder.MAX.mask()) != 0) {
+            hash = mix(hash, maxPlayers);
+        }
+        if ((placeholderMask & Placeholder.WORLD.mask()) != 0) {
+            hash = mix(hash, getWorldName().hashCode());
+        }
+        if ((placeholderMask & Placeholder.HEALTH.mask()) != 0) {
+            hash = mix(hash, getHealth());
+        }
+        if ((placeholderMask & Placeholder.FOOD.mask()) != 0) {
+            hash = mix(hash, getFoodLevel());
+        }
+        if ((placeholderMask & Placeholder.LEVEL.mask()) != 0) {
+            hash = mix(hash, getLevel());
+        }
+        if ((placeholderMask & Placeholder.LOCATION) != 0) {
+            loadLocation();
+            hash = mix(hash, blockX);
+            hash = mix(hash, blockY);
+            hash = mix(hash, blockZ);
+        }
+        return hash;
+    }
+
+    static long mix(long hash, long value) {
+        // Basit 31 çarpanı komşu koordinatlarda çakışır, bu yüzden bitleri karıştır
+        hash = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getOnlinePlayers() {
+        return onlinePlayers;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public String getPlayerName() {
+        if ((loaded & NAME) == 0) {
+            playerName = player.getName();
+            loaded |= NAME;
+        }
+        return playerName;
+    }
+
+    public String getWorldName() {
+        if ((loaded & WORLD) == 0) {
+            worldName = player.getWorld().getName();
+            loaded |= WORLD;
+        }
+        return worldName;
+    }
+
+    public int getHealth() {
+        if ((loaded & HEALTH) == 0) {
+            health = (int) player.getHealth();
+            loaded |= HEALTH;
+        }
+        return health;
+    }
+
+    public int getFoodLevel() {
+        if ((loaded & FOOD) == 0) {
+            foodLevel = player.getFoodLevel();
+            loaded |= FOOD;
+        }
+        return foodLevel;
+    }
+
+    public int getLevel() {
+        if ((loaded & LEVEL) == 0) {
+            level = player.getLevel();
+            loaded |= LEVEL;
+        }
+        return level;
+    }
+
+    public int getBlockX() {
+        loadLocation();
+        return blockX;
+    }
+
+    public int getBlockY() {
+        loadLocation();
+        return blockY;
+    }
+
+    public int getBlockZ() {
+        loadLocation();
+        return blockZ;
+    }
+
+    private void loadLocation() {
+        if ((loaded & LOCATION) == 0) {
+            // getLocation() her çağrıda yeni bir Location oluşturur, bu yüzden tek sefer
+            Location location = player.getLocation();
+            blockX = location.getBlockX();
+            blockY = location.getBlockY();
+            blockZ = location.getBlockZ();
+            loaded |= LOCATION;
+        }
+    }
+}
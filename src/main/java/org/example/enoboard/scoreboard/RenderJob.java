@@ -0,0 +1,82 @@
+package org.example.enoboard.scoreboard;
+
+import java.util.List;
+
+/**
+ * Bir board'un satırlarını ana thread dışında render eden iş.
+ * <p>
+ * Üç aşamada çalışır: {@link #prepare} ana thread'de oyuncu değerlerini okur,
+ * {@link #run} herhangi bir thread'de satırları hesaplar, {@link #apply} ana thread'de
+ * sadece değişen satırları scoreboard'a yazar.
+ */
+public class RenderJob implements Runnable {
+
+    private final PlayerBoard board;
+    private final RenderContext context = new RenderContext();
+
+    private List<LineTemplate> templates;
+    private String[] shared;
+    private int dirty;
+    private long now;
+    private String[] output;
+
+    RenderJob(PlayerBoard board) {
+        this.board = board;
+    }
+
+    public PlayerBoard getBoard() {
+        return board;
+    }
+
+    public RenderContext getContext() {
+        return context;
+    }
+
+    /**
+     * Ana thread'de çağrılır. Oyuncuya özel satırların ihtiyaç duyduğu değerleri okur.
+     *
+     * @param captureMask okunacak placeholder değerleri
+     */
+    public void prepare(List<LineTemplate> templates, String[] shared, RenderContext globals, int dirty,
+                        int captureMask, long now) {
+        this.templates = templates;
+        this.shared = shared;
+        this.dirty = dirty;
+        this.now = now;
+        this.output = null;
+        context.capture(board.getPlayer(), captureMask, globals);
+        board.setRendering(true);
+    }
+
+    /**
+     * Hazırlanan iş gönderilmeyecekse çağrılır.
+     */
+    public void cancel() {
+        templates = null;
+        shared = null;
+        board.setRendering(false);
+    }
+
+    @Override
+    public void run() {
+        output = board.renderLines(templates, shared, context, dirty, now);
+    }
+
+    /**
+     * Ana thread'de çağrılır. Hesaplanan satırları uygular.
+     *
+     * @param currentTemplates render sırasında şablonlar değiştiyse sonuç atılır
+     * @return sonuç atıldıysa false; board tekrar render edilmelidir
+     */
+    public boolean apply(List<LineTemplate> currentTemplates) {
+        board.setRendering(false);
+        String[] lines = output;
+        output = null;
+        shared = null;
+        if (lines == null || board.isClosed() || templates != currentTemplates) {
+            return false;
+        }
+        board.applyLines(lines);
+        return true;
+    }
+}
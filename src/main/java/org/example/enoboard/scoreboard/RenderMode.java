@@ -0,0 +1,20 @@
+package org.example.enoboard.scoreboard;
+
+/**
+ * Scoreboard satırlarının nasıl yazılacağını belirler.
+ */
+public enum RenderMode {
+
+    /** Her slot sabit, görünmez bir entry'ye sahiptir; metin takım prefix/suffix'inde durur. */
+    TEAM,
+
+    /** Eski yöntem: satır metninin kendisi scoreboard entry'sidir. */
+    ENTRY;
+
+    public static RenderMode fromConfig(String value) {
+        if (value != null && value.equalsIgnoreCase("entry")) {
+            return ENTRY;
+        }
+        return TEAM;
+    }
+}
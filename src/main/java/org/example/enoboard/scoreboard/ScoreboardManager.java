@@ -1,58 +1,323 @@
 package org.example.enoboard.scoreboard;
 
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
-import org.bukkit.scoreboard.DisplaySlot;
-import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Score;
-import org.bukkit.scoreboard.Scoreboard;
 import org.example.enoboard.EnoBoard;
+import org.example.enoboard.scheduler.TaskHandle;
+import org.example.enoboard.scheduler.TaskScheduler;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 public class ScoreboardManager {
 
+    // Zamanlama çarkında başlığın kimliği; satırlar kendi sıralarıyla zamanlanır
+    private static final int TITLE_TRACK = -1;
+    // Aktivite seviyelerinin yeniden hesaplanma aralığı (tick)
+    private static final int ACTIVITY_CHECK_INTERVAL = 20;
+    // İstatistik görüntüsünün yenilenme aralığı (tick)
+    private static final int STATS_INTERVAL = 20;
+
     private final EnoBoard plugin;
-    private final Map<UUID, Scoreboard> playerScoreboards = new ConcurrentHashMap<>();
-    private BukkitTask animationTask;
+    // Tick görevi ve başka thread'lerden gelen çağrıların ana thread'e taşınması
+    private final TaskScheduler scheduler;
+    // Tick döngüsünün dolaştığı aktif boardlar (oyuncu ve grup boardları)
+    private final BoardArena boardArena = new BoardArena();
+    // Oyuncu board'unu UUID ile bulmak için ikincil indeks; API ve eventler kullanır
+    private final Map<UUID, PlayerBoard> playerScoreboards = new ConcurrentHashMap<>();
+    // Aynı içeriği gören oyuncuların ortak boardları; üyelerin playerScoreboards'ta kaydı yoktur
+    private final Map<String, BoardGroup> boardGroups = new HashMap<>();
+    private final Map<UUID, BoardGroup> groupMembers = new HashMap<>();
+    private TaskHandle animationTask;
+    // Başka thread'lerden gelen işaretler; oyuncu başına ana thread'e tek görev gider
+    private final Map<UUID, Integer> pendingMarks = new ConcurrentHashMap<>();
 
-    private List<String> titleFrames = new ArrayList<>();
+    // Başlık kareleri ve süreleri
+    private Timeline titleTimeline = Timeline.uniform(List.of("&6&lEnoBoard"));
     private List<String> lines = new ArrayList<>();
-    private int currentTitleFrame = 0;
+    // Satır başına yenileme aralığı (tick, 0 = her güncellemede)
+    private List<Integer> lineIntervals = new ArrayList<>();
+    // Animasyonlu satırların kareleri; sabit satırlar için null
+    private List<Timeline> lineTimelines = new ArrayList<>();
+    // Satırların o an gösterilen derlenmiş şablonları; her değişiklikte yeni liste oluşturulur
+    private List<LineTemplate> compiledLines = new ArrayList<>();
+    // Animasyon kare geçişleri; sadece karesi değişen başlık veya satır işlenir
+    private final TimingWheel<Integer> frameWheel = new TimingWheel<>();
+    private final List<Integer> dueFrames = new ArrayList<>();
+    private final RenderContext renderContext = new RenderContext();
+    // Tick başına bir kez hazırlanan, tüm oyuncular için ortak çıktılar.
+    // Oyuncuya özel satırlar için ilgili eleman null'dır.
+    private String[] sharedLines = new String[0];
+    private long[] sharedRenderedAt = new long[0];
+    // Ortak satırların hangi kare şablonundan render edildiği
+    private LineTemplate[] sharedTemplates = new LineTemplate[0];
+    private String sharedTitle;
+    // Oyuncuya özel satırların kullandığı placeholderlar; parmak izi bunlardan hesaplanır
+    private int playerLineMask = 0;
+    // Şablonlar veya ortak satırlar değiştikçe artar, parmak izine dahildir
+    private long linesVersion = 0;
+    private long sharedVersion = 0;
+
+    // Güncellenmesi gereken boardlar, bucket başına bir kuyruk; sadece bunlar render edilir
+    private final List<ArrayDeque<PlayerBoard>> dirtyBuckets = new ArrayList<>();
+    // Sonraki tick'te yenilenecek sunucu geneli placeholderlar
+    private int dirtyGlobals = Placeholder.ALL;
+
+    // Paralel render: satırlar havuzda hesaplanır, sonuçlar sonraki tick'te ana thread'de uygulanır
+    private boolean parallelRender = false;
+    private int renderThreads = 0;
+    private ForkJoinPool renderPool;
+    private final List<RenderJob> renderBatch = new ArrayList<>();
+    private final ConcurrentLinkedQueue<RenderJob> completedJobs = new ConcurrentLinkedQueue<>();
+    // Bu tick'te işlere verilen ortak satırların kopyası
+    private String[] sharedSnapshot;
+
+    // Zamanı gelmiş boardlar; tick bütçesi bittiğinde kalanlar sırasını koruyarak sonraki tick'e kalır
+    private final ArrayDeque<PlayerBoard> readyBoards = new ArrayDeque<>();
+    // Tick başına en fazla harcanacak süre (nanosaniye, 0 = sınırsız)
+    private long tickBudgetNanos = 0;
+    // Başlığı henüz yeni kareye geçmemiş boardların en büyük slotu (-1 = bekleyen yok)
+    private int titleCursor = -1;
+
+    // Hareketsiz oyuncuların seviyeleri; seviyesi izin vermeyen boardlar burada bekler
+    private final ActivityTracker activity = new ActivityTracker();
+    private final ArrayDeque<PlayerBoard> parkedBoards = new ArrayDeque<>();
+    // Bir oyuncu tam hıza döndü; bekleyen boardlar bu tick'te tekrar denenir
+    private boolean wakeParked = false;
+
+    // Çıkan oyuncuların temizlenip tekrar kullanılan scoreboardları
+    private final ScoreboardPool scoreboardPool = new ScoreboardPool();
+    // Efektlerin ürettiği derlenmiş kareler
+    private final FrameCache frameCache = new FrameCache();
+    // Sidebar çıktısının yazıldığı yer; varsayılan olarak Bukkit Scoreboard API'si
+    private final BukkitSidebarBackend bukkitBackend = new BukkitSidebarBackend(scoreboardPool, RenderMode.TEAM);
+    private SidebarBackend backend = bukkitBackend;
+    // Giriş yapan oyuncuların board oluşturma kuyruğu
+    private final JoinQueue joinQueue = new JoinQueue();
+    // Tick başına oluşturulacak en fazla board (0 = kuyruk kapalı, girişte hemen oluştur)
+    private int joinsPerTick = 5;
+    // Bir oyuncunun board için en fazla bekleyeceği süre (tick)
+    private int maxJoinDelay = 40;
+    // Çevrimdışı oyuncuların kalan boardlarını temizleme aralığı (tick, 0 = kapalı)
+    private int sweepInterval = 1200;
+    // Kaçırılmış olaylara karşı oyuncu değerlerinin yeniden kontrol aralığı (tick, 0 = kapalı)
+    private int safetyRefreshInterval = 100;
+    // Oyuncuya özel placeholder yoksa oyuncular ortak board kullanabilir mi
+    private boolean sharedBoards = true;
+    // Geçerli başlık ve satırlar ortak board ile gösterilebiliyor mu
+    private boolean shareable = false;
+
+    // Oyuncuların seçebileceği stiller; stil adı -> gösterilecek satırların maskesi
+    private final Map<String, Long> styles = new LinkedHashMap<>();
+
+    // İstatistikler
+    private long processedUpdates = 0;
+    private long deferredUpdates = 0;
+    private long skippedUpdates = 0;
+    private long sweptBoards = 0;
+    private long lastTickNanos = 0;
+    private long maxTickNanos = 0;
+    // Ana thread'de toplanan son istatistikler; web thread'i sadece bunu okur
+    private volatile Map<String, Object> statsSnapshot = Map.of();
     private int updateInterval = 5; // ticks
+    // Süresi yazılmayan başlık karelerinin süresi, satırlardan bağımsız (tick)
+    private int titleInterval = 5;
+    // Görev başladığından beri geçen tick
+    private long currentTick = 0;
     private boolean enabled = true;
+    // Oyuncular kaç gruba bölünerek güncellenecek (1 = hepsi aynı tick'te)
+    private int updateBuckets = 1;
+    // Geçerli aralık içindeki tick (0 = başlık karesi ilerler)
+    private int tickPhase = 0;
+    // Sunucu yüküne göre ayarlanan geçerli aralık
+    private final AdaptiveInterval adaptiveInterval = new AdaptiveInterval();
 
     public ScoreboardManager(EnoBoard plugin) {
         this.plugin = plugin;
+        this.scheduler = plugin.getTaskScheduler();
+    }
+
+    /**
+     * Çağrı ana thread'de değilse oraya taşınır. Yönetici durumu sadece ana thread'de
+     * değişir; event, komut ve web thread'lerinden gelen çağrılar bu yolla sıraya girer.
+     *
+     * @return çağrı taşındıysa true; çağıran hemen dönmelidir
+     */
+    private boolean deferToMain(Runnable call) {
+        if (scheduler.isMainThread()) {
+            return false;
+        }
+        scheduler.runSync(call);
+        return true;
     }
 
     public void loadConfig() {
+        if (deferToMain(this::loadConfig)) return;
+
         plugin.reloadConfig();
 
         enabled = plugin.getConfig().getBoolean("scoreboard.enabled", true);
         updateInterval = plugin.getConfig().getInt("scoreboard.update-interval", 5);
+        titleInterval = Math.max(1, plugin.getConfig().getInt("scoreboard.title-interval", updateInterval));
+        adaptiveInterval.configure(updateInterval, plugin.getConfig().getConfigurationSection("scoreboard.adaptive"));
+        bukkitBackend.setMode(RenderMode.fromConfig(plugin.getConfig().getString("scoreboard.render-mode", "team")));
+        updateBuckets = Math.max(1, plugin.getConfig().getInt("scoreboard.update-buckets", 1));
+        rebucket();
+        tickBudgetNanos = Math.max(0L, plugin.getConfig().getLong("scoreboard.tick-budget-nanos", 0L));
+        parallelRender = plugin.getConfig().getBoolean("scoreboard.parallel-render", false);
+        renderThreads = plugin.getConfig().getInt("scoreboard.render-threads", 0);
+        configureRenderPool();
+        scoreboardPool.setMaxSize(plugin.getConfig().getInt("scoreboard.pool-size", 64));
+        sweepInterval = Math.max(0, plugin.getConfig().getInt("scoreboard.sweep-interval", 1200));
+        safetyRefreshInterval = Math.max(0, plugin.getConfig().getInt("scoreboard.safety-refresh-interval", 100));
+        sharedBoards = plugin.getConfig().getBoolean("scoreboard.shared-boards", true);
+        activity.configure(plugin.getConfig().getConfigurationSection("scoreboard.activity"));
+        joinsPerTick = Math.max(0, plugin.getConfig().getInt("scoreboard.join-queue.per-tick", 5));
+        maxJoinDelay = Math.max(0, plugin.getConfig().getInt("scoreboard.join-queue.max-delay", 40));
+        readStyles(plugin.getConfig().getConfigurationSection("scoreboard.styles"));
+        frameCache.clear();
+        frameCache.setMaxSize(plugin.getConfig().getInt("scoreboard.effect-cache-size", 512));
 
-        titleFrames.clear();
-        titleFrames.addAll(plugin.getConfig().getStringList("scoreboard.title-frames"));
-        if (titleFrames.isEmpty()) {
-            titleFrames.add("&6&lEnoBoard");
+        titleTimeline = Timeline.parse(plugin.getConfig().getList("scoreboard.title-frames"), 0, 0, frameCache);
+        if (titleTimeline.isEmpty()) {
+            titleTimeline = Timeline.uniform(List.of("&6&lEnoBoard"));
         }
 
         lines.clear();
-        lines.addAll(plugin.getConfig().getStringList("scoreboard.lines"));
+        lineIntervals.clear();
+        lineTimelines.clear();
+        readLines(plugin.getConfig().getList("scoreboard.lines"));
         if (lines.isEmpty()) {
             lines.add("&7Hosgeldiniz!");
             lines.add("&eOyuncu: &f%player%");
             lines.add("&eSunucu: &f%online%/%max%");
+            lineIntervals.addAll(Arrays.asList(0, 0, 0));
+            lineTimelines.addAll(Arrays.asList(null, null, null));
         }
 
-        // Tüm oyunculara yeniden uygula
+        compileLines();
+        scheduleFrames();
+        shareable = computeShareable();
+        dirtyGlobals = Placeholder.ALL;
+        renderSharedTitle();
+        renderSharedLines();
+
+        // Eski grup boardları yeni satırlarla render edilmediği için tekrar kullanılmaz
+        releaseGroups();
+
+        String backendName = plugin.getConfig().getString("scoreboard.backend", "bukkit");
+        SidebarBackend configured = !"memory".equalsIgnoreCase(backendName) ? bukkitBackend
+                : backend instanceof MemorySidebarBackend ? backend : new MemorySidebarBackend();
+        if (configured != backend) {
+            setBackend(configured);
+        }
+
+        // Tüm oyunculara yeniden uygula; kapatıldıysa kalan boardlar kaldırılır
         for (Player player : Bukkit.getOnlinePlayers()) {
-            createScoreboard(player);
+            if (enabled) {
+                createScoreboard(player);
+            } else {
+                removeScoreboard(player);
+            }
+        }
+        // Kapalıyken tick istatistik toplamaz; ilk görüntü burada oluşur
+        statsSnapshot = collectStats();
+    }
+
+    /**
+     * Satırları okur. Bir satır düz metin, kendi yenileme aralığıyla birlikte
+     * {@code {text: "...", interval: 20}}, animasyonlu olarak {@code {frames: [...], duration: 10}}
+     * veya bir efekt olarak {@code {effect: sweep, text: "...", duration: 2}} şeklinde olabilir.
+     */
+    private void readLines(List<?> entries) {
+        if (entries == null) {
+            return;
+        }
+        for (Object entry : entries) {
+            if (entry instanceof Map<?, ?> map) {
+                Object interval = map.get("interval");
+                int refresh = interval instanceof Number number ? number.intValue() : 0;
+                Timeline timeline = null;
+                String text;
+                if (map.get("frames") instanceof List<?> frames) {
+                    Object duration = map.get("duration");
+                    timeline = Timeline.parse(frames, duration instanceof Number number ? number.intValue() : 0, refresh, frameCache);
+                } else if (map.containsKey("effect")) {
+                    // Tek efektli satır; efektin süresi kare süresidir
+                    timeline = Timeline.parse(List.of(map), 0, refresh, frameCache);
+                }
+
+                if (timeline != null && !timeline.isEmpty()) {
+                    text = timeline.getFirstText();
+                } else {
+                    timeline = null;
+                    Object value = map.get("text");
+                    text = value == null ? "" : value.toString();
+                }
+                lines.add(text);
+                lineIntervals.add(refresh);
+                lineTimelines.add(timeline);
+            } else if (entry != null) {
+                lines.add(entry.toString());
+                lineIntervals.add(0);
+                lineTimelines.add(null);
+            }
+        }
+    }
+
+    /**
+     * Stilleri okur; her stil gösterilecek satırların sırasını (0'dan başlar) listeler.
+     * Listesi boş olan stil tüm satırları gösterir.
+     */
+    private void readStyles(ConfigurationSection section) {
+        styles.clear();
+        if (section == null) {
+            return;
+        }
+        for (String name : section.getKeys(false)) {
+            long mask = 0;
+            for (int line : section.getIntegerList(name + ".lines")) {
+                if (line >= 0 && line < Long.SIZE) {
+                    mask |= 1L << line;
+                }
+            }
+            styles.put(name.toLowerCase(Locale.ROOT), mask == 0 ? PlayerBoard.ALL_LINES : mask);
+        }
+    }
+
+    /**
+     * Satırları config'e yazar; aralığı olan satırlar harita olarak saklanır.
+     */
+    private List<Object> serializeLines() {
+        List<Object> result = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            int interval = i < lineIntervals.size() ? lineIntervals.get(i) : 0;
+            Timeline timeline = i < lineTimelines.size() ? lineTimelines.get(i) : null;
+            if (timeline != null) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("frames", timeline.serialize());
+                if (timeline.getDefaultDuration() > 0) {
+                    entry.put("duration", timeline.getDefaultDuration());
+                }
+                if (interval > 0) {
+                    entry.put("interval", interval);
+                }
+                result.add(entry);
+            } else if (interval > 0) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("text", lines.get(i));
+                entry.put("interval", interval);
+                result.add(entry);
+            } else {
+                result.add(lines.get(i));
+            }
         }
+        return result;
     }
 
     public void startAnimation() {
@@ -60,15 +325,622 @@ public class ScoreboardManager {
             animationTask.cancel();
         }
 
-        animationTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (!enabled) return;
+        // Görev her tick çalışır; başlık ve bucketlar kendi fazlarında işlenir
+        animationTask = scheduler.runTimer(this::tick, 1L, 1L);
+    }
 
-            currentTitleFrame = (currentTitleFrame + 1) % titleFrames.size();
+    private void tick() {
+        long start = System.nanoTime();
 
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                updateScoreboard(player);
+        // Önceki tick'te hesaplanan satırları uygula
+        applyCompletedJobs();
+
+        if (!enabled) return;
+
+        currentTick++;
+        int interval = adaptiveInterval.tick(start);
+
+        // Girişte bekleyen oyuncular, en eski önce
+        joinQueue.drain(currentTick, joinsPerTick, maxJoinDelay, () -> overBudget(start), this::createScoreboard);
+
+        // Sadece karesi bu tick'te değişen başlık ve satırlar işlenir
+        frameWheel.advance(dueFrames);
+        if (!dueFrames.isEmpty()) {
+            advanceFrames(interval);
+        }
+        updateTitles(start);
+
+        if (tickPhase >= interval) {
+            // Aralık küçüldü, yeni döngüye başla
+            tickPhase = 0;
+        }
+        int phase = tickPhase;
+        tickPhase = (tickPhase + 1) % interval;
+
+        if (phase == 0) {
+            int changedGlobals = dirtyGlobals;
+            boolean sharedChanged = renderSharedLines();
+            LineTemplate titleTemplate = titleTimeline.getFrame();
+            if (titleTemplate.getScope() != TemplateScope.PLAYER && titleTemplate.dependsOn(changedGlobals)
+                    && renderSharedTitle()) {
+                // Tek karelik başlıklar kare ilerlemez; değişen global değer burada yansıtılır
+                titleCursor = boardArena.size() - 1;
+            }
+            if (sharedChanged || changedGlobals != 0) {
+                for (int i = 0; i < boardArena.size(); i++) {
+                    PlayerBoard board = boardArena.get(i);
+                    markDirty(board, changedGlobals);
+                }
+            }
+        }
+
+        // Satırlar bucket bucket, aralık boyunca eşit dağıtılarak render edilir.
+        // Sadece bir değeri değişen oyuncular kuyruktadır.
+        if (phase == 0 || wakeParked) {
+            // Seviyesi yüzünden bekleyen boardlar her döngüde bir kez tekrar denenir
+            readyBoards.addAll(parkedBoards);
+            parkedBoards.clear();
+            wakeParked = false;
+        }
+        int buckets = dirtyBuckets.size();
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            if (bucket * interval / buckets == phase) {
+                readyBoards.addAll(dirtyBuckets.get(bucket));
+                dirtyBuckets.get(bucket).clear();
+            }
+        }
+
+        processReady(start);
+        submitRenderBatch();
+
+        if (sweepInterval > 0 && currentTick % sweepInterval == 0) {
+            sweepOrphans();
+        }
+        if (safetyRefreshInterval > 0) {
+            safetyRefresh();
+        }
+        if (currentTick % ACTIVITY_CHECK_INTERVAL == 0) {
+            updateTiers();
+        }
+
+        lastTickNanos = System.nanoTime() - start;
+        maxTickNanos = Math.max(maxTickNanos, lastTickNanos);
+        if (currentTick % STATS_INTERVAL == 0) {
+            statsSnapshot = collectStats();
+        }
+    }
+
+    /**
+     * Hazır boardları sırayla işler. Bütçe dolduğunda kalanlar kuyruğun başında bekler ve
+     * bir sonraki tick'te ilk onlar işlenir; böylece hiçbir oyuncu sürekli ertelenmez.
+     */
+    private void processReady(long start) {
+        int count = readyBoards.size();
+        for (int i = 0; i < count; i++) {
+            // İlerleme garantisi için her tick en az bir board işlenir
+            if (i > 0 && overBudget(start)) {
+                deferredUpdates += count - i;
+                return;
+            }
+
+            PlayerBoard board = readyBoards.poll();
+            if (board.isClosed()) {
+                board.takeDirty();
+            } else if (throttled(board)) {
+                // Dirty maskesi korunur; board seviyesinin aralığı dolunca render edilir
+                parkedBoards.add(board);
+            } else if (renderPool == null) {
+                int dirty = board.takeDirty();
+                RenderContext context = renderContext.forPlayer(board.getPlayer());
+                refreshPlayerTitle(board, context, dirty);
+                if (unchanged(board, context)) {
+                    skippedUpdates++;
+                } else {
+                    updateLines(board, context, dirty);
+                    deferLines(board);
+                    board.setLastUpdateTick(currentTick);
+                    processedUpdates++;
+                }
+            } else if (board.isRendering()) {
+                // Önceki sonuç henüz uygulanmadı; bir sonraki tick'te tekrar denenir
+                readyBoards.add(board);
+            } else {
+                if (sharedSnapshot == null) {
+                    sharedSnapshot = sharedLines.clone();
+                }
+                int dirty = board.takeDirty();
+                refreshPlayerTitle(board, renderContext.forPlayer(board.getPlayer()), dirty);
+                RenderJob job = board.getRenderJob();
+                job.prepare(compiledLines, sharedSnapshot, renderContext, dirty, playerLineMask, currentTick);
+                if (unchanged(board, job.getContext())) {
+                    job.cancel();
+                    skippedUpdates++;
+                } else {
+                    renderBatch.add(job);
+                    board.setLastUpdateTick(currentTick);
+                    processedUpdates++;
+                }
+            }
+        }
+    }
+
+    private boolean overBudget(long start) {
+        return tickBudgetNanos > 0 && System.nanoTime() - start >= tickBudgetNanos;
+    }
+
+    /**
+     * Yeni başlık karesini boardlara sondan başa doğru yazar. Bütçe dolarsa kalanlar sonraki
+     * tick'te devam eder; dizide geriye gidildiği için arada çıkan boardlar kimseyi atlatmaz.
+     */
+    private void updateTitles(long start) {
+        titleCursor = Math.min(titleCursor, boardArena.size() - 1);
+        for (int i = 0; titleCursor >= 0; i++) {
+            if (i > 0 && overBudget(start)) {
+                return;
             }
-        }, 0L, updateInterval);
+            PlayerBoard board = boardArena.get(titleCursor--);
+            if (!activity.freezesTitle(board.getTier())) {
+                updateTitle(board);
+            }
+        }
+    }
+
+    /**
+     * Oyuncuya bağlı başlığı, değişen değerlerden birini kullanıyorsa yeniden render eder.
+     * Animasyonsuz başlıklar kare ilerlemediği için sadece bu yolla güncellenir.
+     */
+    private void refreshPlayerTitle(PlayerBoard board, RenderContext context, int dirty) {
+        if (sharedTitle != null || activity.freezesTitle(board.getTier())) {
+            return;
+        }
+        LineTemplate titleTemplate = titleTimeline.getFrame();
+        if (titleTemplate.dependsOn(dirty)) {
+            board.setTitle(titleTemplate.render(context, board.getTitle()));
+        }
+    }
+
+    /**
+     * Board'un aktivite seviyesinin aralığı son render'dan beri dolmadıysa true.
+     */
+    private boolean throttled(PlayerBoard board) {
+        int limit = activity.intervalOf(board.getTier());
+        return limit > 0 && currentTick - board.getLastUpdateTick() < limit;
+    }
+
+    /**
+     * Oyuncu boardlarının seviyesini son aktivitelerine göre yeniden hesaplar.
+     * Seviye burada sadece düşer; yükselme {@link #markActive(Player)} ile hemen olur.
+     */
+    private void updateTiers() {
+        activity.resetCounts();
+        for (int i = 0; i < boardArena.size(); i++) {
+            PlayerBoard board = boardArena.get(i);
+            if (board.getPlayer() == null) {
+                continue;
+            }
+            ActivityTier tier = activity.tierOf(currentTick - board.getLastActivity());
+            board.setTier(tier);
+            activity.count(tier);
+        }
+    }
+
+    /**
+     * Oyuncu hareket etti, yazdı veya etkileşime girdi; board'u hemen tam hıza döner.
+     * Her hareket eventinde çağrıldığı için sadece bir arama ve alan ataması yapar.
+     */
+    public void markActive(Player player) {
+        if (deferToMain(() -> markActive(player))) return;
+
+        PlayerBoard board = playerScoreboards.get(player.getUniqueId());
+        if (board == null) {
+            return;
+        }
+        board.setLastActivity(currentTick);
+        ActivityTier previous = board.getTier();
+        if (previous == ActivityTier.ACTIVE) {
+            return;
+        }
+        board.setTier(ActivityTier.ACTIVE);
+        if (activity.freezesTitle(previous)) {
+            // Dondurulan başlık geçerli kareye getirilir
+            updateTitle(board);
+        }
+        wakeParked = true;
+    }
+
+    /**
+     * Board'un satırlarını etkileyen girdiler son render'dan beri aynıysa true döner;
+     * değilse yeni parmak izini kaydeder.
+     */
+    private boolean unchanged(PlayerBoard board, RenderContext context) {
+        long fingerprint = context.fingerprint(playerLineMask);
+        fingerprint = RenderContext.mix(fingerprint, linesVersion);
+        fingerprint = RenderContext.mix(fingerprint, sharedVersion);
+        return board.sameFingerprint(fingerprint);
+    }
+
+    /**
+     * Çıkışı kaçırılmış (artık çevrimiçi olmayan) oyuncuların boardlarını kaldırır.
+     */
+    private void sweepOrphans() {
+        // Geriye doğru dolaşılır; çıkarılan slota sondaki board taşınır
+        for (int i = boardArena.size() - 1; i >= 0; i--) {
+            PlayerBoard board = boardArena.get(i);
+            if (board.getPlayer() != null && !board.getPlayer().isOnline()) {
+                // Oyuncu yeniden girdiyse kayıt artık yeni board'undur; ona dokunulmaz
+                playerScoreboards.remove(board.getPlayer().getUniqueId(), board);
+                releaseBoard(board);
+                sweptBoards++;
+            }
+        }
+
+        List<UUID> offline = new ArrayList<>();
+        for (UUID uuid : groupMembers.keySet()) {
+            if (Bukkit.getPlayer(uuid) == null) {
+                offline.add(uuid);
+            }
+        }
+        for (UUID uuid : offline) {
+            leaveGroup(uuid);
+            sweptBoards++;
+        }
+    }
+
+    /**
+     * Board'u kapatır ve sidebar'ını backend'e geri verir. Oyuncu artık bu sidebar'ı
+     * görmüyor olmalıdır.
+     */
+    private void releaseBoard(PlayerBoard board) {
+        boardArena.remove(board);
+        board.close();
+        backend.destroy(board.getSidebar());
+    }
+
+    /**
+     * Yenileme aralığı dolmadığı için render edilmeyen satırları sonraki güncellemeye bırakır.
+     */
+    private void deferLines(PlayerBoard board) {
+        int deferred = board.takeDeferredDirty();
+        if (deferred != 0) {
+            // Parmak izi ertelenen değişikliği içeriyor, bir dahaki sefere atlanmamalı
+            board.clearFingerprint();
+            markDirty(board, deferred);
+        }
+    }
+
+    private void compileLines() {
+        List<LineTemplate> compiled = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            int interval = i < lineIntervals.size() ? lineIntervals.get(i) : 0;
+            Timeline timeline = i < lineTimelines.size() ? lineTimelines.get(i) : null;
+            compiled.add(timeline != null ? timeline.getFrame() : LineTemplate.compile(lines.get(i), interval));
+        }
+        compiledLines = compiled;
+        updateLineMask();
+    }
+
+    /**
+     * Oyuncuya özel satırların placeholder maskesini yeniler; her şablon değişikliğinde çağrılır.
+     */
+    private void updateLineMask() {
+        int mask = 0;
+        for (LineTemplate template : compiledLines) {
+            if (template.getScope() == TemplateScope.PLAYER) {
+                mask |= template.getMask();
+            }
+        }
+        playerLineMask = mask;
+        linesVersion++;
+    }
+
+    /**
+     * Bu tick'te hazırlanan işleri havuzda paralel olarak hesaplatır.
+     */
+    private void submitRenderBatch() {
+        sharedSnapshot = null;
+        if (renderBatch.isEmpty()) {
+            return;
+        }
+
+        RenderJob[] jobs = renderBatch.toArray(new RenderJob[0]);
+        renderBatch.clear();
+        renderPool.execute(() -> Arrays.stream(jobs).parallel().forEach(job -> {
+            try {
+                job.run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Scoreboard render hatası", e);
+            } finally {
+                completedJobs.add(job);
+            }
+        }));
+    }
+
+    private void applyCompletedJobs() {
+        RenderJob job;
+        while ((job = completedJobs.poll()) != null) {
+            if (job.apply(compiledLines)) {
+                deferLines(job.getBoard());
+            } else if (!job.getBoard().isClosed()) {
+                // Şablonlar değişti veya render başarısız oldu; baştan render et
+                job.getBoard().clearFingerprint();
+                markDirty(job.getBoard(), Placeholder.ALL);
+            }
+        }
+    }
+
+    private void configureRenderPool() {
+        if (parallelRender && renderPool == null) {
+            int threads = renderThreads > 0
+                    ? renderThreads
+                    : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            renderPool = new ForkJoinPool(threads);
+        } else if (!parallelRender && renderPool != null) {
+            shutdownRenderPool();
+        }
+    }
+
+    private void shutdownRenderPool() {
+        if (renderPool == null) {
+            return;
+        }
+        renderPool.shutdown();
+        try {
+            renderPool.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        renderPool = null;
+        // Kalan sonuçları uygula ki boardlar "render ediliyor" durumunda kalmasın
+        applyCompletedJobs();
+    }
+
+    private void resetBuckets() {
+        dirtyBuckets.clear();
+        // Bir aralıktaki tick sayısından fazla bucket anlamsız
+        int count = Math.min(updateBuckets, Math.max(1, updateInterval));
+        for (int i = 0; i < count; i++) {
+            dirtyBuckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Bucketları yeniden oluşturur ve mevcut boardları yeni bucketlarına dağıtır. Eski
+     * kuyruklardaki indeksler geçersiz olduğu için tüm boardlar baştan işaretlenir.
+     */
+    private void rebucket() {
+        resetBuckets();
+        readyBoards.clear();
+        parkedBoards.clear();
+        for (int i = 0; i < boardArena.size(); i++) {
+            PlayerBoard board = boardArena.get(i);
+            board.setBucket(bucketOf(board));
+            board.takeDirty();
+            markDirty(board, Placeholder.ALL);
+        }
+    }
+
+    private int bucketOf(Player player) {
+        return Math.floorMod(player.getUniqueId().hashCode(), dirtyBuckets.size());
+    }
+
+    private int bucketOf(PlayerBoard board) {
+        return board.getPlayer() != null ? bucketOf(board.getPlayer()) : 0;
+    }
+
+    /**
+     * Oyuncunun görebileceği placeholder değişikliklerini işaretler; satırları bir sonraki
+     * tick'te render edilir.
+     */
+    public void markDirty(Player player, int placeholderMask) {
+        if (!scheduler.isMainThread()) {
+            // Görev çalışana kadar gelen işaretler maskeye eklenir; hareket gibi sık eventler
+            // her biri için ayrı görev göndermez
+            pendingMarks.compute(player.getUniqueId(), (uuid, pending) -> {
+                if (pending == null) {
+                    scheduler.runSync(() -> flushMarks(player));
+                    return placeholderMask;
+                }
+                return pending | placeholderMask;
+            });
+            return;
+        }
+
+        PlayerBoard board = playerScoreboards.get(player.getUniqueId());
+        if (board != null) {
+            markDirty(board, placeholderMask);
+        }
+    }
+
+    private void flushMarks(Player player) {
+        Integer mask = pendingMarks.remove(player.getUniqueId());
+        if (mask != null) {
+            markDirty(player, mask);
+        }
+    }
+
+    /**
+     * Sunucu geneli bir değerin (%online%, %max%) değiştiğini işaretler.
+     */
+    public void markGlobalDirty(int placeholderMask) {
+        if (deferToMain(() -> markGlobalDirty(placeholderMask))) return;
+
+        dirtyGlobals |= placeholderMask;
+    }
+
+    private void markDirty(PlayerBoard board, int placeholderMask) {
+        if (board.markDirty(placeholderMask)) {
+            dirtyBuckets.get(board.getBucket()).add(board);
+        }
+    }
+
+    /**
+     * Olayı olmayan değişiklikleri (başka pluginlerin setHealth, setLevel çağrıları gibi)
+     * yakalamak için oyuncu değerlerini aralık boyunca bucket bucket yeniden işaretler.
+     * Değeri değişmeyen boardlar parmak iziyle atlandığı için maliyeti bir okumadır.
+     */
+    private void safetyRefresh() {
+        int mask = playerLineMask;
+        if (sharedTitle == null) {
+            mask |= titleTimeline.getFrame().getMask();
+        }
+        if (mask == 0) {
+            return;
+        }
+        int due = (int) (currentTick % safetyRefreshInterval);
+        int buckets = dirtyBuckets.size();
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            if ((long) bucket * safetyRefreshInterval / buckets != due) {
+                continue;
+            }
+            for (int i = 0; i < boardArena.size(); i++) {
+                PlayerBoard board = boardArena.get(i);
+                if (board.getBucket() == bucket && board.getPlayer() != null) {
+                    markDirty(board, mask);
+                }
+            }
+        }
+    }
+
+    private void markAllDirty() {
+        for (int i = 0; i < boardArena.size(); i++) {
+            PlayerBoard board = boardArena.get(i);
+            markDirty(board, Placeholder.ALL);
+        }
+    }
+
+    /**
+     * Başlığı ve animasyonlu satırları geçerli karelerinin süresiyle çarka yerleştirir.
+     * Tek kareli animasyonlar hiç zamanlanmaz.
+     */
+    private void scheduleFrames() {
+        frameWheel.clear();
+        if (titleTimeline.isAnimated()) {
+            frameWheel.schedule(TITLE_TRACK, frameDelay(titleTimeline.getDuration(titleInterval), updateInterval));
+        }
+        for (int i = 0; i < lineTimelines.size(); i++) {
+            Timeline timeline = lineTimelines.get(i);
+            if (timeline != null && timeline.isAnimated()) {
+                frameWheel.schedule(i, frameDelay(timeline.getDuration(updateInterval), updateInterval));
+            }
+        }
+    }
+
+    /**
+     * Kare süresini yük uyarlamasıyla aynı oranda uzatır.
+     */
+    private int frameDelay(int duration, int interval) {
+        return Math.max(1, (int) ((long) duration * interval / Math.max(1, updateInterval)));
+    }
+
+    /**
+     * Süresi dolan kareleri ilerletir ve bir sonraki karelerini zamanlar.
+     */
+    private void advanceFrames(int interval) {
+        List<LineTemplate> next = null;
+        for (int track : dueFrames) {
+            if (track == TITLE_TRACK) {
+                titleTimeline.advance();
+                frameWheel.schedule(TITLE_TRACK, frameDelay(titleTimeline.getDuration(titleInterval), interval));
+                // Ardışık kareler aynıysa hiçbir board'a dokunulmaz; boardlar updateTitles ile yazılır
+                if (renderSharedTitle()) {
+                    titleCursor = boardArena.size() - 1;
+                }
+            } else {
+                Timeline timeline = lineTimelines.get(track);
+                if (next == null) {
+                    // Paralel işler eski listeyi okuyor olabilir, yerinde değiştirilmez
+                    next = new ArrayList<>(compiledLines);
+                }
+                next.set(track, timeline.advance());
+                frameWheel.schedule(track, frameDelay(timeline.getDuration(updateInterval), interval));
+            }
+        }
+        dueFrames.clear();
+
+        if (next != null) {
+            compiledLines = next;
+            updateLineMask();
+            int changedGlobals = dirtyGlobals;
+            renderSharedLines();
+            // Değişen kare şablonu board tarafından fark edilir; sadece kuyruğa alınmaları yeterli
+            for (int i = 0; i < boardArena.size(); i++) {
+                PlayerBoard board = boardArena.get(i);
+                markDirty(board, changedGlobals);
+            }
+        }
+    }
+
+    /**
+     * Oyuncuya bağlı olmayan başlık karesini tüm oyuncular için bir kez render eder.
+     *
+     * @return board başlıklarının güncellenmesi gerekiyorsa true
+     */
+    private boolean renderSharedTitle() {
+        String previous = sharedTitle;
+        LineTemplate titleTemplate = titleTimeline.getFrame();
+        sharedTitle = titleTemplate.getScope() == TemplateScope.PLAYER
+                ? null
+                : titleTemplate.render(renderContext.forPlayer(null), sharedTitle);
+        return sharedTitle == null || !sharedTitle.equals(previous);
+    }
+
+    /**
+     * Oyuncuya bağlı olmayan satırları tüm oyuncular için bir kez render eder.
+     *
+     * @return ortak satırlardan biri değiştiyse true
+     */
+    private boolean renderSharedLines() {
+        int changedGlobals = dirtyGlobals;
+        dirtyGlobals = 0;
+        if (changedGlobals != 0) {
+            renderContext.refreshGlobals();
+        }
+        renderContext.forPlayer(null);
+
+        List<LineTemplate> templates = compiledLines;
+        boolean resized = sharedLines.length != templates.size();
+        String[] shared = resized ? new String[templates.size()] : sharedLines;
+        if (resized) {
+            sharedRenderedAt = new long[templates.size()];
+            sharedTemplates = new LineTemplate[templates.size()];
+        }
+        boolean changed = resized;
+        for (int i = 0; i < shared.length; i++) {
+            LineTemplate template = templates.get(i);
+            String previous = shared[i];
+            switch (template.getScope()) {
+                case STATIC -> shared[i] = template.getStaticText();
+                case PLAYER -> shared[i] = null;
+                case GLOBAL -> {
+                    if (previous == null || sharedTemplates[i] != template) {
+                        shared[i] = template.render(renderContext, previous);
+                        sharedRenderedAt[i] = currentTick;
+                    } else if (template.dependsOn(changedGlobals)) {
+                        if (currentTick - sharedRenderedAt[i] < template.getRefreshInterval()) {
+                            // Aralık dolmadı, değişiklik sonraki güncellemeye kalır
+                            dirtyGlobals |= template.getMask() & changedGlobals;
+                        } else {
+                            shared[i] = template.render(renderContext, previous);
+                            sharedRenderedAt[i] = currentTick;
+                        }
+                    }
+                }
+            }
+            sharedTemplates[i] = template;
+            changed |= shared[i] != previous;
+        }
+        sharedLines = shared;
+        if (changed) {
+            sharedVersion++;
+        }
+        return changed;
+    }
+
+    private String renderTitle(RenderContext context, String previous) {
+        if (sharedTitle != null) {
+            return sharedTitle;
+        }
+        return titleTimeline.getFrame().render(context, previous);
     }
 
     public void stopAnimation() {
@@ -76,111 +948,289 @@ public class ScoreboardManager {
             animationTask.cancel();
             animationTask = null;
         }
+        shutdownRenderPool();
 
         // Tüm scoreboardları temizle
         for (Player player : Bukkit.getOnlinePlayers()) {
-            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+            backend.hide(player);
+        }
+        for (int i = boardArena.size() - 1; i >= 0; i--) {
+            releaseBoard(boardArena.get(i));
         }
+        boardArena.clear();
         playerScoreboards.clear();
+        joinQueue.clear();
+        boardGroups.clear();
+        groupMembers.clear();
+        pendingMarks.clear();
+        for (ArrayDeque<PlayerBoard> queue : dirtyBuckets) {
+            queue.clear();
+        }
+        readyBoards.clear();
+        parkedBoards.clear();
+    }
+
+    /**
+     * Giriş yapan oyuncunun board'unu kuyruğa alır; tick başına sınırlı sayıda oluşturulur.
+     */
+    public void queueScoreboard(Player player) {
+        if (deferToMain(() -> queueScoreboard(player))) return;
+        if (!enabled) return;
+
+        if (joinsPerTick <= 0 || animationTask == null) {
+            createScoreboard(player);
+            return;
+        }
+        joinQueue.offer(player, currentTick);
     }
 
     public void createScoreboard(Player player) {
+        if (deferToMain(() -> createScoreboard(player))) return;
+
+        joinQueue.remove(player.getUniqueId());
         if (!enabled) return;
 
-        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-        String title = colorize(replacePlaceholders(titleFrames.get(currentTitleFrame), player));
+        // Eski board önce havuza döner, böylece yeniden yüklemede aynı scoreboard tekrar kullanılır
+        detach(player);
 
-        Objective objective = scoreboard.registerNewObjective("enoboard", "dummy", title);
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        if (plugin.getPreferences().isHidden(player.getUniqueId())) {
+            // Gizleyen oyuncunun board'u yoktur; tick döngüsünde hiç görünmez
+            backend.hide(player);
+            return;
+        }
+
+        if (shareable) {
+            BoardGroup group = joinGroup(player);
+            group.getBoard().getSidebar().show(player);
+            return;
+        }
 
-        updateLines(scoreboard, objective, player);
+        PlayerBoard board = new PlayerBoard(player, backend.create(), bucketOf(player));
+        board.setLineMask(lineMaskOf(player));
+        RenderContext context = renderContext.forPlayer(player);
+        board.setTitle(renderTitle(context, null));
+        unchanged(board, context);
+        updateLines(board, context, Placeholder.ALL);
+        board.setLastActivity(currentTick);
+        board.setLastUpdateTick(currentTick);
 
-        player.setScoreboard(scoreboard);
-        playerScoreboards.put(player.getUniqueId(), scoreboard);
+        board.getSidebar().show(player);
+        boardArena.add(board);
+        playerScoreboards.put(player.getUniqueId(), board);
     }
 
     public void updateScoreboard(Player player) {
+        if (deferToMain(() -> updateScoreboard(player))) return;
         if (!enabled) return;
 
-        Scoreboard scoreboard = playerScoreboards.get(player.getUniqueId());
-        if (scoreboard == null) {
+        PlayerBoard board = playerScoreboards.get(player.getUniqueId());
+        if (board == null) {
             createScoreboard(player);
             return;
         }
 
-        Objective objective = scoreboard.getObjective("enoboard");
-        if (objective == null) {
-            createScoreboard(player);
-            return;
+        updateTitle(board);
+        if (board.isRendering()) {
+            // Satırlar şu an başka bir thread'de hesaplanıyor
+            markDirty(board, Placeholder.ALL);
+        } else {
+            RenderContext context = renderContext.forPlayer(player);
+            unchanged(board, context);
+            updateLines(board, context, Placeholder.ALL);
         }
+    }
+
+    private void updateTitle(PlayerBoard board) {
+        String title = sharedTitle != null
+                ? sharedTitle
+                : renderTitle(renderContext.forPlayer(board.getPlayer()), board.getTitle());
+        board.setTitle(title);
+    }
 
-        // Title güncelle
-        String title = colorize(replacePlaceholders(titleFrames.get(currentTitleFrame), player));
-        objective.setDisplayName(title);
+    private void updateLines(PlayerBoard board, RenderContext context, int dirty) {
+        String[] rendered = board.renderLines(compiledLines, sharedLines, context, dirty, currentTick);
 
-        // Lines güncelle
-        updateLines(scoreboard, objective, player);
+        // Sadece değişen satırlar scoreboard'a yazılır
+        board.applyLines(rendered);
     }
 
-    private void updateLines(Scoreboard scoreboard, Objective objective, Player player) {
-        // Eski satırları temizle
-        for (String entry : new HashSet<>(scoreboard.getEntries())) {
-            scoreboard.resetScores(entry);
+    public void removeScoreboard(Player player) {
+        if (deferToMain(() -> removeScoreboard(player))) return;
+
+        joinQueue.remove(player.getUniqueId());
+        backend.hide(player);
+        detach(player);
+    }
+
+    /**
+     * Oyuncunun özel board'unu veya grup üyeliğini kaldırır.
+     */
+    private void detach(Player player) {
+        UUID uuid = player.getUniqueId();
+        PlayerBoard board = playerScoreboards.get(uuid);
+        // Oyuncunun başka bir oturumuna ait, hâlâ çevrimiçi olan board kaldırılmaz
+        if (board != null && (board.getPlayer() == player || !board.getPlayer().isOnline())
+                && playerScoreboards.remove(uuid, board)) {
+            releaseBoard(board);
         }
+        leaveGroup(uuid);
+    }
 
-        int score = lines.size();
-        Set<String> usedEntries = new HashSet<>();
+    /**
+     * Oyuncuyu içeriği aynı olan gruba ekler; grup yoksa board'u oluşturulup render edilir.
+     */
+    private BoardGroup joinGroup(Player player) {
+        String key = groupKey(player);
+        BoardGroup group = boardGroups.get(key);
+        if (group == null) {
+            PlayerBoard board = new PlayerBoard(null, backend.create(), 0);
+            board.setLineMask(lineMaskOf(player));
+            RenderContext context = renderContext.forPlayer(null);
+            board.setTitle(renderTitle(context, null));
+            unchanged(board, context);
+            updateLines(board, context, Placeholder.ALL);
+            group = new BoardGroup(key, board);
+            boardGroups.put(key, group);
+            boardArena.add(board);
+        }
+        group.addMember(player);
+        groupMembers.put(player.getUniqueId(), group);
+        return group;
+    }
 
-        for (String line : lines) {
-            String processedLine = colorize(replacePlaceholders(line, player));
+    /**
+     * Oyuncuyu grubundan çıkarır; son üye de çıktıysa grubun board'u havuza döner.
+     */
+    private void leaveGroup(UUID uuid) {
+        BoardGroup group = groupMembers.remove(uuid);
+        if (group == null) {
+            return;
+        }
+        group.removeMember(uuid);
+        if (group.isEmpty()) {
+            boardGroups.remove(group.getKey());
+            releaseBoard(group.getBoard());
+        }
+    }
 
-            // Aynı satırları farklı yapmak için boşluk ekle
-            while (usedEntries.contains(processedLine)) {
-                processedLine += " ";
-            }
-            usedEntries.add(processedLine);
+    /**
+     * Tüm grupların boardlarını havuza döndürür; üyeler tekrar oluşturulurken yeni gruplara katılır.
+     */
+    private void releaseGroups() {
+        for (BoardGroup group : boardGroups.values()) {
+            releaseBoard(group.getBoard());
+        }
+        boardGroups.clear();
+        groupMembers.clear();
+    }
 
-            // 40 karakter limiti
-            if (processedLine.length() > 40) {
-                processedLine = processedLine.substring(0, 40);
-            }
+    /**
+     * Aynı içeriği görecek oyuncuların ortak anahtarı; aynı stili seçenler aynı board'u görür.
+     */
+    private String groupKey(Player player) {
+        String style = styleOf(player);
+        return style == null ? "default" : "style:" + style;
+    }
 
-            Score sc = objective.getScore(processedLine);
-            sc.setScore(score--);
+    /**
+     * Oyuncunun seçtiği ve hâlâ tanımlı olan stil; yoksa null.
+     */
+    private String styleOf(Player player) {
+        String style = plugin.getPreferences().getStyle(player.getUniqueId());
+        return style != null && styles.containsKey(style) ? style : null;
+    }
+
+    private long lineMaskOf(Player player) {
+        String style = styleOf(player);
+        return style == null ? PlayerBoard.ALL_LINES : styles.get(style);
+    }
+
+    /**
+     * Oyuncunun sidebar'ı gizleyip göstermesi; tercih saklanır.
+     */
+    public void setHidden(Player player, boolean hidden) {
+        plugin.getPreferences().setHidden(player.getUniqueId(), hidden);
+        if (hidden) {
+            removeScoreboard(player);
+        } else {
+            createScoreboard(player);
         }
     }
 
-    public void removeScoreboard(Player player) {
-        playerScoreboards.remove(player.getUniqueId());
-        player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+    /**
+     * Oyuncunun stilini değiştirir; null varsayılan stile döner.
+     *
+     * @return stil tanımlı değilse veya tercih saklanamadıysa false
+     */
+    public boolean setStyle(Player player, String style) {
+        String name = style == null ? null : style.toLowerCase(Locale.ROOT);
+        if (name != null && !styles.containsKey(name)) {
+            return false;
+        }
+        if (!plugin.getPreferences().setStyle(player.getUniqueId(), name)) {
+            return false;
+        }
+        // Satır maskesi board'un ömrü boyunca sabittir, board yeniden oluşturulur
+        createScoreboard(player);
+        return true;
     }
 
-    private String replacePlaceholders(String text, Player player) {
-        return text
-                .replace("%player%", player.getName())
-                .replace("%online%", String.valueOf(Bukkit.getOnlinePlayers().size()))
-                .replace("%max%", String.valueOf(Bukkit.getMaxPlayers()))
-                .replace("%world%", player.getWorld().getName())
-                .replace("%health%", String.valueOf((int) player.getHealth()))
-                .replace("%food%", String.valueOf(player.getFoodLevel()))
-                .replace("%level%", String.valueOf(player.getLevel()))
-                .replace("%x%", String.valueOf(player.getLocation().getBlockX()))
-                .replace("%y%", String.valueOf(player.getLocation().getBlockY()))
-                .replace("%z%", String.valueOf(player.getLocation().getBlockZ()));
+    public Set<String> getStyles() {
+        return Collections.unmodifiableSet(styles.keySet());
     }
 
-    private String colorize(String text) {
-        return ChatColor.translateAlternateColorCodes('&', text);
+    /**
+     * Başlık ve satırların hiçbir karesi oyuncuya özel değilse oyuncular board paylaşabilir.
+     */
+    private boolean computeShareable() {
+        if (!sharedBoards || titleTimeline.isPlayerSpecific()) {
+            return false;
+        }
+        for (int i = 0; i < compiledLines.size(); i++) {
+            Timeline timeline = lineTimelines.get(i);
+            boolean playerSpecific = timeline != null
+                    ? timeline.isPlayerSpecific()
+                    : compiledLines.get(i).getScope() == TemplateScope.PLAYER;
+            if (playerSpecific) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Paylaşım uygunluğu değiştiyse oyuncuları ortak veya özel boardlara taşır.
+     */
+    private void refreshSharing() {
+        boolean now = computeShareable();
+        if (now == shareable) {
+            return;
+        }
+        shareable = now;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            createScoreboard(player);
+        }
     }
 
     // Getters and Setters for Web API
     public List<String> getTitleFrames() {
-        return new ArrayList<>(titleFrames);
+        return new ArrayList<>(titleTimeline.getTexts());
     }
 
     public void setTitleFrames(List<String> frames) {
-        this.titleFrames = new ArrayList<>(frames);
-        this.currentTitleFrame = 0;
+        if (deferToMain(() -> setTitleFrames(frames))) return;
+
+        // Kareler aynıysa süreleri korunur; yeni liste eşit süreli yüklenir
+        if (!frames.equals(titleTimeline.getTexts())) {
+            this.titleTimeline = frames.isEmpty() ? Timeline.uniform(List.of("&6&lEnoBoard")) : Timeline.uniform(frames);
+        }
+        scheduleFrames();
+        renderSharedTitle();
+        refreshSharing();
+        for (int i = 0; i < boardArena.size(); i++) {
+            PlayerBoard board = boardArena.get(i);
+            updateTitle(board);
+        }
         saveToConfig();
     }
 
@@ -189,18 +1239,94 @@ public class ScoreboardManager {
     }
 
     public void setLines(List<String> newLines) {
+        if (deferToMain(() -> setLines(newLines))) return;
+
+        // Aynı metne sahip satırların yenileme aralığı ve animasyon kareleri korunur
+        Map<String, Integer> previousIntervals = new HashMap<>();
+        Map<String, Timeline> previousTimelines = new HashMap<>();
+        for (int i = 0; i < lines.size() && i < lineIntervals.size(); i++) {
+            previousIntervals.put(lines.get(i), lineIntervals.get(i));
+            if (lineTimelines.get(i) != null) {
+                previousTimelines.put(lines.get(i), lineTimelines.get(i));
+            }
+        }
         this.lines = new ArrayList<>(newLines);
+        this.lineIntervals = new ArrayList<>(lines.size());
+        this.lineTimelines = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            lineIntervals.add(previousIntervals.getOrDefault(line, 0));
+            lineTimelines.add(previousTimelines.get(line));
+        }
+
+        compileLines();
+        scheduleFrames();
+        renderSharedLines();
+        refreshSharing();
+        for (int i = 0; i < boardArena.size(); i++) {
+            PlayerBoard board = boardArena.get(i);
+            board.resetLineSchedule();
+        }
+        markAllDirty();
         saveToConfig();
     }
 
+    /**
+     * Sidebar backend'ini değiştirir. Eski backend'in sidebarları, sahibi çıkmış boardlar ve
+     * grup boardları dahil, önce ona geri verilir; boardlar çağıran tarafından yeni backend'de
+     * yeniden oluşturulur.
+     */
+    private void setBackend(SidebarBackend backend) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            this.backend.hide(player);
+        }
+        releaseGroups();
+        // Geriye doğru dolaşılır; çıkarılan slota sondaki board taşınır
+        for (int i = boardArena.size() - 1; i >= 0; i--) {
+            releaseBoard(boardArena.get(i));
+        }
+        playerScoreboards.clear();
+        this.backend = backend;
+    }
+
     public int getUpdateInterval() {
         return updateInterval;
     }
 
+    public int getTitleInterval() {
+        return titleInterval;
+    }
+
+    public void setTitleInterval(int interval) {
+        if (deferToMain(() -> setTitleInterval(interval))) return;
+
+        // Görev her tick çalıştığı için sadece kareler yeniden zamanlanır
+        this.titleInterval = Math.max(1, interval);
+        scheduleFrames();
+        saveToConfig();
+    }
+
     public void setUpdateInterval(int interval) {
+        if (deferToMain(() -> setUpdateInterval(interval))) return;
+
         this.updateInterval = interval;
+        adaptiveInterval.setBaseInterval(interval);
+        rebucket();
+        // Görev her tick çalıştığı için yeniden başlatmaya gerek yok
         saveToConfig();
-        startAnimation(); // Restart with new interval
+    }
+
+    /**
+     * Yük uyarlaması sonrası gerçekte kullanılan aralık.
+     */
+    public int getEffectiveInterval() {
+        return adaptiveInterval.getInterval();
+    }
+
+    /**
+     * Geçerli aralığın neden seçildiği (fixed, normal, backoff, recovering).
+     */
+    public String getIntervalReason() {
+        return adaptiveInterval.getReason();
     }
 
     public boolean isEnabled() {
@@ -208,6 +1334,8 @@ public class ScoreboardManager {
     }
 
     public void setEnabled(boolean enabled) {
+        if (deferToMain(() -> setEnabled(enabled))) return;
+
         this.enabled = enabled;
         saveToConfig();
         if (!enabled) {
@@ -221,11 +1349,62 @@ public class ScoreboardManager {
         }
     }
 
+    /**
+     * Web API için güncelleme istatistikleri.
+     */
+    /**
+     * Son istatistik görüntüsü; herhangi bir thread'den çağrılabilir. Değerler ana thread'de
+     * {@value #STATS_INTERVAL} tick'te bir toplanır.
+     */
+    public Map<String, Object> getStats() {
+        return statsSnapshot;
+    }
+
+    private Map<String, Object> collectStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("boards", boardArena.size());
+        stats.put("playerBoards", playerScoreboards.size());
+        stats.put("boardGroups", boardGroups.size());
+        stats.put("groupedPlayers", groupMembers.size());
+        stats.put("pendingUpdates", readyBoards.size());
+        stats.put("processedUpdates", processedUpdates);
+        stats.put("deferredUpdates", deferredUpdates);
+        stats.put("pendingTitles", titleCursor + 1);
+        stats.put("skippedUpdates", skippedUpdates);
+        stats.put("tickBudgetNanos", tickBudgetNanos);
+        stats.put("lastTickNanos", lastTickNanos);
+        stats.put("maxTickNanos", maxTickNanos);
+        stats.put("mspt", adaptiveInterval.getMspt());
+        stats.put("activeBoards", activity.getCount(ActivityTier.ACTIVE));
+        stats.put("idleBoards", activity.getCount(ActivityTier.IDLE));
+        stats.put("afkBoards", activity.getCount(ActivityTier.AFK));
+        stats.put("parkedBoards", parkedBoards.size());
+        stats.put("storedPreferences", plugin.getPreferences().size());
+        stats.put("backend", backend.getName());
+        stats.put("backendOps", backend.getOperationCounts());
+        stats.put("pooledScoreboards", scoreboardPool.size());
+        stats.put("poolHits", scoreboardPool.getHits());
+        stats.put("poolMisses", scoreboardPool.getMisses());
+        stats.put("poolReleased", scoreboardPool.getReleased());
+        stats.put("poolHitRate", scoreboardPool.getHitRate());
+        stats.put("sweptBoards", sweptBoards);
+        stats.put("joinQueue", joinQueue.size());
+        stats.put("admittedJoins", joinQueue.getAdmitted());
+        stats.put("maxJoinWaitTicks", joinQueue.getMaxWaitTicks());
+        stats.put("internedLines", LineInterner.getLookups());
+        stats.put("internDedupeRatio", LineInterner.getDedupeRatio());
+        stats.put("effectFrames", frameCache.size());
+        stats.put("effectCacheHits", frameCache.getHits());
+        stats.put("effectCacheMisses", frameCache.getMisses());
+        return Collections.unmodifiableMap(stats);
+    }
+
     private void saveToConfig() {
         plugin.getConfig().set("scoreboard.enabled", enabled);
         plugin.getConfig().set("scoreboard.update-interval", updateInterval);
-        plugin.getConfig().set("scoreboard.title-frames", titleFrames);
-        plugin.getConfig().set("scoreboard.lines", lines);
+        plugin.getConfig().set("scoreboard.title-frames", titleTimeline.serialize());
+        plugin.getConfig().set("scoreboard.title-interval", titleInterval);
+        plugin.getConfig().set("scoreboard.lines", serializeLines());
         plugin.saveConfig();
     }
 }
@@ -0,0 +1,89 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+
+import java.util.ArrayDeque;
+
+/**
+ * Çıkan oyuncuların Scoreboard ve Objective nesnelerini temizleyip yeni gelenler için saklar.
+ * <p>
+ * Giriş-çıkışın yoğun olduğu lobilerde her girişte yeni Scoreboard oluşturmak yerine
+ * havuzdaki temizlenmiş bir tanesi kullanılır. Satır takımları (eb-line-*) silinmez;
+ * yeni board onları adıyla bulup tekrar kullanır. Sadece ana thread'den kullanılır.
+ */
+public class ScoreboardPool {
+
+    static final String OBJECTIVE_NAME = "enoboard";
+
+    private final ArrayDeque<Scoreboard> idle = new ArrayDeque<>();
+    private int maxSize = 64;
+
+    private long hits;
+    private long misses;
+    private long released;
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        while (idle.size() > this.maxSize) {
+            idle.pollLast();
+        }
+    }
+
+    /**
+     * Havuzdan temiz bir scoreboard alır, yoksa yenisini oluşturur.
+     * Scoreboard'un SIDEBAR'da gösterilen {@value #OBJECTIVE_NAME} objective'i vardır.
+     */
+    public Scoreboard acquire() {
+        Scoreboard scoreboard = idle.pollFirst();
+        if (scoreboard != null) {
+            hits++;
+            return scoreboard;
+        }
+        misses++;
+        scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        Objective objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, "dummy", "");
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        return scoreboard;
+    }
+
+    /**
+     * Artık kimsenin görmediği scoreboard'u temizleyip havuza geri koyar.
+     */
+    public void release(Scoreboard scoreboard) {
+        if (idle.size() >= maxSize) {
+            return;
+        }
+        for (String entry : scoreboard.getEntries()) {
+            scoreboard.resetScores(entry);
+        }
+        released++;
+        idle.addFirst(scoreboard);
+    }
+
+    public int size() {
+        return idle.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getReleased() {
+        return released;
+    }
+
+    /**
+     * Alınan scoreboardların havuzdan karşılanma oranı (0-1).
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
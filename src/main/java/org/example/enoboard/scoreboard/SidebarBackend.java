@@ -0,0 +1,67 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+
+/**
+ * Sidebar çıktısının yazıldığı yer.
+ * <p>
+ * Motor (şablonlar, dirty maskeleri, zamanlama) sadece hangi satırın değiştiğini hesaplar;
+ * bunun scoreboard'a nasıl yazılacağı backend'e kalır. Bukkit API'si ({@link BukkitSidebarBackend}),
+ * testler ve ölçümler için bellekte kayıt tutan ({@link MemorySidebarBackend}) veya doğrudan
+ * paket gönderen bir uygulama aynı arayüzü kullanır. Tüm metotlar ana thread'den çağrılır.
+ */
+public interface SidebarBackend {
+
+    /**
+     * Boş bir sidebar oluşturur; henüz kimseye gösterilmez.
+     */
+    Sidebar create();
+
+    /**
+     * Sidebar'ı kaldırır. Artık hiçbir oyuncu onu görmüyor olmalıdır; backend kaynaklarını
+     * tekrar kullanabilir.
+     */
+    void destroy(Sidebar sidebar);
+
+    /**
+     * Oyuncunun gördüğü sidebar'ı kaldırır ve sunucunun varsayılan görünümüne döndürür.
+     */
+    void hide(Player viewer);
+
+    /**
+     * Config ve istatistiklerde görünen isim.
+     */
+    String getName();
+
+    /**
+     * Oluşturulduğundan beri yapılan işlem sayıları; backend'ler kendi işlem türlerini raporlar.
+     * Aynı backend'in farklı modlarda ürettiği paket hacmini karşılaştırmak için kullanılır.
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Tek bir sidebar. Satırlar yukarıdan aşağıya 0'dan numaralanır ve en fazla
+     * {@link PlayerBoard#MAX_LINES} satır gösterilir.
+     */
+    interface Sidebar {
+
+        /**
+         * Oyuncuya bu sidebar'ı gösterir; aynı sidebar birden fazla oyuncuya gösterilebilir.
+         */
+        void show(Player viewer);
+
+        void setTitle(String title);
+
+        /**
+         * Satırın metnini değiştirir. Satır {@link #setLineCount(int)} ile verilen sayının içinde olmalıdır.
+         */
+        void setLine(int line, String text);
+
+        /**
+         * Gösterilen satır sayısını değiştirir; fazla satırlar kaldırılır, yeni satırlar boş başlar.
+         */
+        void setLineCount(int count);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.enoboard.scoreboard;
+
+/**
+ * Bir şablonun ne sıklıkla ve kimin için render edilmesi gerektiği.
+ */
+public enum TemplateScope {
+
+    /** Placeholder yok; metin yükleme sırasında bir kez hazırlanır. */
+    STATIC,
+
+    /** Sadece sunucu geneli değerler (%online%, %max%); tick başına bir kez render edilir. */
+    GLOBAL,
+
+    /** Oyuncuya özel değerler içerir; her oyuncu için ayrı render edilir. */
+    PLAYER;
+
+    public TemplateScope widen(TemplateScope other) {
+        return other.ordinal() > ordinal() ? other : this;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.enoboard.scoreboard;
+
+/**
+ * Derlenmiş şablonda sabit metin parçalarının arasındaki, render sırasında doldurulan slot.
+ */
+interface TemplateSlot {
+
+    /**
+     * Slotun değerini doğrudan builder'a yazar.
+     */
+    void appendTo(StringBuilder builder, RenderContext context);
+
+    /**
+     * Slotun kullandığı placeholderların bit maskesi.
+     */
+    int mask();
+
+    TemplateScope getScope();
+}
@@ -0,0 +1,210 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.ChatColor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renk kodlarının şablon derlenirken bir kez çevrilmesi.
+ * <p>
+ * Desteklenen yazımlar: klasik {@code &a} kodları, {@code &#RRGGBB} hex renkleri ve
+ * {@code <gradient:#RRGGBB:#RRGGBB>metin</gradient>}. Hex renkler sunucunun beklediği
+ * {@code §x§R§R§G§G§B§B} biçimine çevrilir.
+ */
+public final class TextColors {
+
+    private static final char COLOR_CHAR = ChatColor.COLOR_CHAR;
+    private static final String FORMAT_CODES = "klmno";
+    // Gradient içinde anlamı olmayan renk ve sıfırlama kodları
+    private static final String COLOR_CODES = "0123456789abcdefr";
+    // Bu uzunluğa kadar olan gradient adımları önbelleğe alınır
+    private static final int MAX_CACHED_STEPS = 256;
+    private static final int MAX_CACHED_TEXTS = 1024;
+
+    // (başlangıç, bitiş, uzunluk) -> karakter başına renk kodları
+    private static final Map<Long, String[]> STEPS = new ConcurrentHashMap<>();
+    // Placeholder içermeyen gradientlerin hazır çıktısı
+    private static final Map<String, String> STATIC_GRADIENTS = new ConcurrentHashMap<>();
+
+    private TextColors() {
+    }
+
+    /**
+     * {@code &} ve {@code &#RRGGBB} kodlarını çevirir.
+     */
+    public static String colorize(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        StringBuilder builder = null;
+        int index = text.indexOf("&#");
+        int last = 0;
+        while (index >= 0) {
+            int rgb = parseHex(text, index + 2);
+            if (rgb >= 0) {
+                if (builder == null) {
+                    builder = new StringBuilder(text.length() + 16);
+                }
+                builder.append(text, last, index);
+                appendHex(builder, rgb);
+                last = index + 8;
+            }
+            index = text.indexOf("&#", rgb >= 0 ? last : index + 2);
+        }
+        if (builder != null) {
+            builder.append(text, last, text.length());
+            text = builder.toString();
+        }
+        return ChatColor.translateAlternateColorCodes('&', text);
+    }
+
+    /**
+     * {@code RRGGBB} veya {@code #RRGGBB} değerini okur; geçersizse -1.
+     */
+    public static int parseColor(String value) {
+        String hex = value.startsWith("#") ? value.substring(1) : value;
+        return hex.length() == 6 ? parseHex(hex, 0) : -1;
+    }
+
+    private static int parseHex(String text, int start) {
+        if (start + 6 > text.length()) {
+            return -1;
+        }
+        int rgb = 0;
+        for (int i = start; i < start + 6; i++) {
+            int digit = Character.digit(text.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            rgb = (rgb << 4) | digit;
+        }
+        return rgb;
+    }
+
+    /**
+     * Rengi {@code §x§R§R§G§G§B§B} olarak yazar.
+     */
+    public static void appendHex(StringBuilder builder, int rgb) {
+        builder.append(COLOR_CHAR).append('x');
+        for (int shift = 20; shift >= 0; shift -= 4) {
+            builder.append(COLOR_CHAR).append(Character.forDigit((rgb >> shift) & 0xF, 16));
+        }
+    }
+
+    /**
+     * İki renk arasında {@code length} karakterlik gradientin karakter başına renk kodları.
+     * Aynı renkler ve uzunluk için sonuç önbellekten gelir; dizi değiştirilmemelidir.
+     */
+    public static String[] steps(int from, int to, int length) {
+        if (length > MAX_CACHED_STEPS) {
+            return computeSteps(from, to, length);
+        }
+        long key = ((long) from << 40) | ((long) to << 16) | length;
+        // Önce düz okuma; computeIfAbsent her çağrıda lambda oluşturur
+        String[] cached = STEPS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return STEPS.computeIfAbsent(key, ignored -> computeSteps(from, to, length));
+    }
+
+    private static String[] computeSteps(int from, int to, int length) {
+        String[] steps = new String[length];
+        StringBuilder builder = new StringBuilder(14);
+        for (int i = 0; i < length; i++) {
+            double t = length == 1 ? 0 : (double) i / (length - 1);
+            int r = lerp((from >> 16) & 0xFF, (to >> 16) & 0xFF, t);
+            int g = lerp((from >> 8) & 0xFF, (to >> 8) & 0xFF, t);
+            int b = lerp(from & 0xFF, to & 0xFF, t);
+            builder.setLength(0);
+            appendHex(builder, (r << 16) | (g << 8) | b);
+            steps[i] = builder.toString();
+        }
+        return steps;
+    }
+
+    private static int lerp(int a, int b, double t) {
+        return (int) Math.round(a + (b - a) * t);
+    }
+
+    /**
+     * Placeholder içermeyen gradient metnini renklendirir; sonuç önbelleğe alınır.
+     * Metindeki {@code &l} gibi biçim kodları her renkten sonra tekrar eklenir.
+     */
+    public static String gradient(int from, int to, String text) {
+        String key = Integer.toHexString(from) + ':' + Integer.toHexString(to) + ':' + text;
+        String cached = STATIC_GRADIENTS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        StringBuilder visible = new StringBuilder(text.length());
+        String format = stripFormat(text, visible);
+        StringBuilder builder = new StringBuilder(visible.length() * 16);
+        appendGradient(builder, visible, from, to, format);
+        String result = builder.toString();
+
+        if (STATIC_GRADIENTS.size() >= MAX_CACHED_TEXTS) {
+            STATIC_GRADIENTS.clear();
+        }
+        STATIC_GRADIENTS.put(key, result);
+        return result;
+    }
+
+    /**
+     * Görünür metni karakter karakter gradient renkleriyle yazar.
+     */
+    static void appendGradient(StringBuilder builder, CharSequence visible, int from, int to, String format) {
+        int length = Character.codePointCount(visible, 0, visible.length());
+        if (length > 0) {
+            appendGradient(builder, visible, steps(from, to, length), format);
+        }
+    }
+
+    /**
+     * Görünür metni verilen renk adımlarıyla yazar; adım sayısı metnin karakter sayısı kadar olmalıdır.
+     */
+    static void appendGradient(StringBuilder builder, CharSequence visible, String[] steps, String format) {
+        int step = 0;
+        for (int i = 0; i < visible.length(); ) {
+            int end = i + Character.charCount(Character.codePointAt(visible, i));
+            builder.append(steps[step++]).append(format).append(visible, i, end);
+            i = end;
+        }
+    }
+
+    /**
+     * Biçim kodlarını ({@code &l}, {@code &o}...) metinden ayırır ve çevrilmiş hallerini döndürür;
+     * görünür karakterler {@code visible}'a yazılır. Renk kodları ({@code &a}, {@code &#RRGGBB},
+     * {@code &r}) atılır, gradientin rengini sadece gradient belirler.
+     */
+    static String stripFormat(String text, StringBuilder visible) {
+        StringBuilder format = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c == '&' || c == COLOR_CHAR) && i + 1 < text.length()) {
+                char code = Character.toLowerCase(text.charAt(i + 1));
+                if (FORMAT_CODES.indexOf(code) >= 0) {
+                    format.append(COLOR_CHAR).append(code);
+                    i++;
+                    continue;
+                }
+                if (COLOR_CODES.indexOf(code) >= 0) {
+                    i++;
+                    continue;
+                }
+                if (c == '&' && code == '#' && parseHex(text, i + 2) >= 0) {
+                    i += 7;
+                    continue;
+                }
+                if (c == COLOR_CHAR && code == 'x' && i + 14 <= text.length()) {
+                    i += 13;
+                    continue;
+                }
+            }
+            visible.append(c);
+        }
+        return format.toString();
+    }
+}
@@ -0,0 +1,307 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Kareleri elle yazmak yerine istendiğinde üreten animasyon efekti.
+ * <p>
+ * Config'de {@code {effect: sweep, text: "EnoBoard", colors: ["&e", "&6"], format: "&l"}}
+ * şeklinde tanımlanır. Üretilen kareler normal satırlar gibi {@link LineTemplate} ile derlenir,
+ * placeholderlar tek karakter gibi ele alınır ve bölünmez.
+ */
+public final class TextEffect {
+
+    public enum Type {
+        /** Tek bir vurgulu harf metin boyunca ilerler. colors: [taban, vurgu] */
+        SWEEP,
+        /** Renkler harfler üzerinde kayar. colors: gökkuşağı sırası */
+        GRADIENT,
+        /** Metin harf harf yazılır. colors: [renk] */
+        TYPEWRITER,
+        /** Metin yanıp söner; iki renk verilirse renkler arasında geçer. */
+        BLINK,
+        /** Metin {@code width} genişliğinde bir pencerede kayar. colors: [renk] */
+        SCROLL;
+
+        public static Type fromConfig(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final List<String> DEFAULT_SWEEP = List.of("&e", "&6");
+    private static final List<String> DEFAULT_GRADIENT = List.of("&c", "&6", "&e", "&a", "&b", "&d", "&5");
+    private static final int DEFAULT_WIDTH = 16;
+    // Kayan metnin sonu ile başı arasındaki boşluk
+    private static final String SCROLL_GAP = "   ";
+
+    private final Type type;
+    private final String text;
+    private final List<String> colors;
+    private final String format;
+    private final int width;
+    // Metnin görünür birimleri: tek karakter veya bütün bir placeholder
+    private final List<String> units;
+
+    private TextEffect(Type type, String text, List<String> colors, String format, int width) {
+        this.type = type;
+        this.text = text;
+        this.colors = colors;
+        this.format = format;
+        this.width = width;
+        this.units = split(type == Type.SCROLL ? text + SCROLL_GAP : text);
+    }
+
+    /**
+     * Config haritasından efekt oluşturur; efekt adı bilinmiyorsa null döner.
+     */
+    public static TextEffect fromMap(Map<?, ?> map) {
+        Type type = Type.fromConfig(Objects.toString(map.get("effect"), null));
+        if (type == null) {
+            return null;
+        }
+        String text = Objects.toString(map.get("text"), "");
+        String format = Objects.toString(map.get("format"), "");
+        int width = map.get("width") instanceof Number number ? Math.max(1, number.intValue()) : DEFAULT_WIDTH;
+
+        List<String> colors = new ArrayList<>();
+        if (map.get("colors") instanceof List<?> list) {
+            for (Object color : list) {
+                if (color != null) {
+                    colors.add(color.toString());
+                }
+            }
+        }
+        if (colors.isEmpty()) {
+            colors.addAll(type == Type.GRADIENT ? DEFAULT_GRADIENT : type == Type.SWEEP ? DEFAULT_SWEEP : List.of());
+        } else if (type == Type.SWEEP && colors.size() == 1) {
+            colors.add(DEFAULT_SWEEP.get(1));
+        }
+        return new TextEffect(type, text, Collections.unmodifiableList(colors), format, width);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int frameCount() {
+        return switch (type) {
+            case SWEEP, TYPEWRITER -> Math.max(1, units.size());
+            case GRADIENT -> Math.max(1, colors.size());
+            case BLINK -> 2;
+            // Pencereye sığan metin kaymaz
+            case SCROLL -> units.size() - SCROLL_GAP.length() <= width ? 1 : units.size();
+        };
+    }
+
+    /**
+     * Verilen karenin kaynak metnini üretir (renk kodları {@code &} ile).
+     */
+    public String frame(int index) {
+        StringBuilder builder = new StringBuilder(text.length() * 4);
+        switch (type) {
+            case SWEEP -> {
+                String base = colors.get(0);
+                String highlight = colors.get(1);
+                for (int i = 0; i < units.size(); i++) {
+                    if (i == 0 || i == index || i == index + 1) {
+                        builder.append(i == index ? highlight : base).append(format);
+                    }
+                    builder.append(units.get(i));
+                }
+            }
+            case GRADIENT -> {
+                for (int i = 0; i < units.size(); i++) {
+                    String unit = units.get(i);
+                    if (!unit.isBlank()) {
+                        builder.append(colors.get((i + index) % colors.size())).append(format);
+                    }
+                    builder.append(unit);
+                }
+            }
+            case TYPEWRITER -> {
+                appendColor(builder, 0);
+                for (int i = 0; i <= index && i < units.size(); i++) {
+                    builder.append(units.get(i));
+                }
+            }
+            case BLINK -> {
+                if (colors.size() >= 2) {
+                    builder.append(colors.get(index)).append(format).append(text);
+                } else if (index == 0) {
+                    appendColor(builder, 0);
+                    builder.append(text);
+                }
+            }
+            case SCROLL -> {
+                appendColor(builder, 0);
+                if (frameCount() == 1) {
+                    builder.append(text);
+                } else {
+                    for (int i = 0; i < width; i++) {
+                        builder.append(units.get((index + i) % units.size()));
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private void appendColor(StringBuilder builder, int color) {
+        if (color < colors.size()) {
+            builder.append(colors.get(color));
+        }
+        builder.append(format);
+    }
+
+    /**
+     * Config'e yazılacak hali.
+     */
+    public Map<String, Object> serialize() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("effect", type.name().toLowerCase(Locale.ROOT));
+        map.put("text", text);
+        if (!colors.isEmpty()) {
+            map.put("colors", new ArrayList<>(colors));
+        }
+        if (!format.isEmpty()) {
+            map.put("format", format);
+        }
+        if (type == Type.SCROLL) {
+            map.put("width", width);
+        }
+        return map;
+    }
+
+    /**
+     * Metni görünür birimlere böler. Placeholderlar tek birimdir; metindeki renk kodları
+     * ({@code &#RRGGBB} dahil) kendilerinden sonraki birime eklenir ki kesilmesinler.
+     * Gradientler harf başına renklere açılır; placeholder içeren gradient tek birimdir.
+     */
+    private static List<String> split(String text) {
+        List<String> units = new ArrayList<>();
+        int i = 0;
+        String pendingColor = "";
+        while (i < text.length()) {
+            int code = colorCodeLength(text, i);
+            if (code > 0) {
+                pendingColor += text.substring(i, i + code);
+                i += code;
+                continue;
+            }
+            if (text.startsWith(LineTemplate.GRADIENT_OPEN, i)) {
+                int count = units.size();
+                int end = splitGradient(text, i, pendingColor, units);
+                if (end > i) {
+                    if (units.size() > count) {
+                        pendingColor = "";
+                    }
+                    i = end;
+                    continue;
+                }
+            }
+            int end;
+            Placeholder placeholder = text.charAt(i) == '%' ? Placeholder.match(text, i) : null;
+            if (placeholder != null) {
+                end = i + placeholder.getKey().length();
+            } else {
+                end = i + Character.charCount(text.codePointAt(i));
+            }
+            units.add(pendingColor + text.substring(i, end));
+            pendingColor = "";
+            i = end;
+        }
+        if (!pendingColor.isEmpty()) {
+            units.add(pendingColor);
+        }
+        return units;
+    }
+
+    /**
+     * Verilen konumdaki renk kodunun uzunluğu; renk kodu yoksa 0.
+     */
+    private static int colorCodeLength(String text, int index) {
+        char c = text.charAt(index);
+        if (index + 1 >= text.length() || (c != '&' && c != ChatColor.COLOR_CHAR)) {
+            return 0;
+        }
+        char next = text.charAt(index + 1);
+        if (c == '&' && next == '#' && index + 8 <= text.length()
+                && TextColors.parseColor(text.substring(index + 1, index + 8)) >= 0) {
+            return 8;
+        }
+        if (c == ChatColor.COLOR_CHAR && (next == 'x' || next == 'X') && index + 14 <= text.length()) {
+            return 14;
+        }
+        return 2;
+    }
+
+    /**
+     * Konumdaki gradient etiketini birimlere ekler.
+     *
+     * @return etiketin bittiği konum; geçerli bir etiket değilse {@code start}
+     */
+    private static int splitGradient(String text, int start, String pendingColor, List<String> units) {
+        int headerEnd = text.indexOf('>', start);
+        if (headerEnd < 0) {
+            return start;
+        }
+        String[] colors = text.substring(start + LineTemplate.GRADIENT_OPEN.length(), headerEnd).split(":");
+        int from = colors.length == 2 ? TextColors.parseColor(colors[0]) : -1;
+        int to = colors.length == 2 ? TextColors.parseColor(colors[1]) : -1;
+        if (from < 0 || to < 0) {
+            return start;
+        }
+        int close = text.indexOf(LineTemplate.GRADIENT_CLOSE, headerEnd);
+        int end = close < 0 ? text.length() : close + LineTemplate.GRADIENT_CLOSE.length();
+        String content = text.substring(headerEnd + 1, close < 0 ? text.length() : close);
+        if (content.indexOf('%') >= 0 && LineTemplate.compile(content).getScope() != TemplateScope.STATIC) {
+            // Renkleri değerin uzunluğuna bağlı; bölünmeden derlenir
+            units.add(pendingColor + text.substring(start, end));
+            return end;
+        }
+
+        StringBuilder visible = new StringBuilder(content.length());
+        String format = TextColors.stripFormat(content, visible);
+        String[] steps = TextColors.steps(from, to, visible.codePointCount(0, visible.length()));
+        int step = 0;
+        for (int i = 0; i < visible.length(); ) {
+            int charEnd = i + Character.charCount(visible.codePointAt(i));
+            units.add(pendingColor + steps[step++] + format + visible.substring(i, charEnd));
+            pendingColor = "";
+            i = charEnd;
+        }
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TextEffect other)) {
+            return false;
+        }
+        return type == other.type && width == other.width && text.equals(other.text)
+                && colors.equals(other.colors) && format.equals(other.format);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, text, colors, format, width);
+    }
+}
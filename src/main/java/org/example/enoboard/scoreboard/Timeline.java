@@ -0,0 +1,212 @@
+package org.example.enoboard.scoreboard;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Her karenin kendi süresi olan animasyon.
+ * <p>
+ * Bir kareyi uzun göstermek için listede tekrar etmek gerekmez; süresi artırılır.
+ * Config'de kareler düz metin, {@code {text: "...", duration: 40}} veya kareleri kendisi
+ * üreten bir efekt ({@link TextEffect}) olarak yazılır. Süresi yazılmayan kareler zaman
+ * çizelgesinin varsayılan süresini, o da yoksa çağıranın verdiği süreyi kullanır.
+ */
+public class Timeline {
+
+    // Parça başına sabit metin ve efekt; sabit kareler için efekt null'dır
+    private final List<String> texts;
+    private final List<TextEffect> effects;
+    // Parça başına kare süresi (tick), 0 = varsayılan süre
+    private final int[] durations;
+    // Sabit parçaların derlenmiş hali; efekt kareleri önbellekten gelir
+    private final LineTemplate[] frames;
+    private final FrameCache frameCache;
+    // Süresi olmayan kareler için süre (tick), 0 = çağıranın varsayılanı
+    private final int defaultDuration;
+    private final int refreshInterval;
+    private final int size;
+
+    private int segment;
+    private int offset;
+
+    private Timeline(List<String> texts, List<TextEffect> effects, int[] durations,
+                     int defaultDuration, int refreshInterval, FrameCache frameCache) {
+        this.texts = texts;
+        this.effects = effects;
+        this.durations = durations;
+        this.defaultDuration = defaultDuration;
+        this.refreshInterval = refreshInterval;
+        this.frameCache = frameCache;
+        this.frames = new LineTemplate[texts.size()];
+        int total = 0;
+        for (int i = 0; i < frames.length; i++) {
+            if (effects.get(i) == null) {
+                frames[i] = LineTemplate.compile(texts.get(i), refreshInterval);
+                total++;
+            } else {
+                total += effects.get(i).frameCount();
+            }
+        }
+        this.size = total;
+    }
+
+    /**
+     * Tüm kareleri varsayılan süreyle gösteren zaman çizelgesi.
+     */
+    public static Timeline uniform(List<String> texts) {
+        List<TextEffect> effects = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            effects.add(null);
+        }
+        // Efekt olmadığı için önbelleğe ihtiyaç yok
+        return new Timeline(new ArrayList<>(texts), effects, new int[texts.size()], 0, 0, null);
+    }
+
+    /**
+     * Config listesinden zaman çizelgesi oluşturur; elemanlar metin, {text, duration} veya
+     * {effect, ...} olabilir. Bilinmeyen efektler düz metin olarak gösterilir. Efekt kareleri
+     * verilen önbellekte tutulur.
+     */
+    public static Timeline parse(List<?> entries, int defaultDuration, int refreshInterval, FrameCache frameCache) {
+        List<String> texts = new ArrayList<>();
+        List<TextEffect> effects = new ArrayList<>();
+        List<Integer> durations = new ArrayList<>();
+        if (entries != null) {
+            for (Object entry : entries) {
+                if (entry instanceof Map<?, ?> map) {
+                    Object text = map.get("text");
+                    Object duration = map.get("duration");
+                    texts.add(text == null ? "" : text.toString());
+                    effects.add(map.containsKey("effect") ? TextEffect.fromMap(map) : null);
+                    durations.add(duration instanceof Number number ? Math.max(0, number.intValue()) : 0);
+                } else if (entry != null) {
+                    texts.add(entry.toString());
+                    effects.add(null);
+                    durations.add(0);
+                }
+            }
+        }
+        int[] array = new int[durations.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = durations.get(i);
+        }
+        return new Timeline(texts, effects, array, Math.max(0, defaultDuration), refreshInterval, frameCache);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Birden fazla kare varsa true; tek kareli zaman çizelgesi hiç zamanlanmaz.
+     */
+    public boolean isAnimated() {
+        return size > 1;
+    }
+
+    /**
+     * Tüm karelerin kaynak metni; efekt kareleri burada üretilir, önbelleğe alınmaz.
+     */
+    public List<String> getTexts() {
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < texts.size(); i++) {
+            TextEffect effect = effects.get(i);
+            if (effect == null) {
+                result.add(texts.get(i));
+            } else {
+                for (int frame = 0; frame < effect.frameCount(); frame++) {
+                    result.add(effect.frame(frame));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * İlk karenin kaynak metni.
+     */
+    public String getFirstText() {
+        if (texts.isEmpty()) {
+            return "";
+        }
+        TextEffect effect = effects.get(0);
+        return effect == null ? texts.get(0) : effect.frame(0);
+    }
+
+    /**
+     * Karelerden herhangi biri oyuncuya özel placeholder içeriyorsa true.
+     */
+    public boolean isPlayerSpecific() {
+        for (int i = 0; i < frames.length; i++) {
+            TextEffect effect = effects.get(i);
+            // Efekt kareleri metnin placeholderlarını bölmeden taşır
+            LineTemplate frame = effect == null ? frames[i] : LineTemplate.compile(effect.getText());
+            if (frame.getScope() == TemplateScope.PLAYER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public LineTemplate getFrame() {
+        TextEffect effect = effects.get(segment);
+        return effect == null ? frames[segment] : frameCache.get(effect, offset, refreshInterval);
+    }
+
+    /**
+     * Geçerli karenin süresi; kendi süresi yoksa varsayılan süre.
+     */
+    public int getDuration(int fallback) {
+        if (durations[segment] > 0) {
+            return durations[segment];
+        }
+        return defaultDuration > 0 ? defaultDuration : fallback;
+    }
+
+    /**
+     * Bir sonraki kareye geçer ve onu döndürür.
+     */
+    public LineTemplate advance() {
+        TextEffect effect = effects.get(segment);
+        if (effect != null && offset + 1 < effect.frameCount()) {
+            offset++;
+        } else {
+            offset = 0;
+            segment = (segment + 1) % frames.length;
+        }
+        return getFrame();
+    }
+
+    /**
+     * Config'e yazılacak hali; süresi olmayan sabit kareler düz metin olarak kalır.
+     */
+    public List<Object> serialize() {
+        List<Object> result = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            TextEffect effect = effects.get(i);
+            if (effect == null && durations[i] == 0) {
+                result.add(texts.get(i));
+                continue;
+            }
+            Map<String, Object> entry = effect != null ? effect.serialize() : new LinkedHashMap<>();
+            if (effect == null) {
+                entry.put("text", texts.get(i));
+            }
+            if (durations[i] > 0) {
+                entry.put("duration", durations[i]);
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+}
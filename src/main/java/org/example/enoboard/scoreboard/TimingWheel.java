@@ -0,0 +1,74 @@
+package org.example.enoboard.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tick tabanlı zamanlama çarkı.
+ * <p>
+ * Her slot bir tick'e karşılık gelir; çarkın boyundan uzun gecikmeler kalan tur sayısıyla
+ * saklanır. Her tick sadece o anki slota bakılır, böylece iş o tick'te süresi dolan
+ * öğelerle orantılıdır, toplam öğe sayısıyla değil.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOTS = 64;
+    private static final int MASK = SLOTS - 1;
+
+    private final List<List<Entry<T>>> slots = new ArrayList<>(SLOTS);
+    private int cursor;
+
+    public TimingWheel() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Öğeyi verilen tick sonra çalışacak şekilde zamanlar (en az 1).
+     */
+    public void schedule(T item, int delayTicks) {
+        int delay = Math.max(1, delayTicks);
+        int slot = (cursor + delay) & MASK;
+        slots.get(slot).add(new Entry<>(item, (delay - 1) / SLOTS));
+    }
+
+    /**
+     * Çarkı bir tick ilerletir ve süresi dolan öğeleri {@code due} listesine ekler.
+     */
+    public void advance(List<T> due) {
+        cursor = (cursor + 1) & MASK;
+        List<Entry<T>> slot = slots.get(cursor);
+        if (slot.isEmpty()) {
+            return;
+        }
+
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            Entry<T> entry = slot.get(i);
+            if (entry.rounds == 0) {
+                due.add(entry.item);
+            } else {
+                entry.rounds--;
+                slot.set(kept++, entry);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+    }
+
+    public void clear() {
+        for (List<Entry<T>> slot : slots) {
+            slot.clear();
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private int rounds;
+
+        private Entry(T item, int rounds) {
+            this.item = item;
+            this.rounds = rounds;
+        }
+    }
+}
@@ -135,6 +135,9 @@ public class WebServer {
             Map<String, Object> config = new HashMap<>();
             config.put("enabled", plugin.getScoreboardManager().isEnabled());
             config.put("updateInterval", plugin.getScoreboardManager().getUpdateInterval());
+            config.put("effectiveInterval", plugin.getScoreboardManager().getEffectiveInterval());
+            config.put("intervalReason", plugin.getScoreboardManager().getIntervalReason());
+            config.put("titleInterval", plugin.getScoreboardManager().getTitleInterval());
             config.put("titleFrames", plugin.getScoreboardManager().getTitleFrames());
             config.put("lines", plugin.getScoreboardManager().getLines());
 
@@ -162,6 +165,10 @@ public class WebServer {
                     plugin.getScoreboardManager().setUpdateInterval(json.get("updateInterval").getAsInt());
                 }
 
+                if (json.has("titleInterval")) {
+                    plugin.getScoreboardManager().setTitleInterval(json.get("titleInterval").getAsInt());
+                }
+
                 if (json.has("titleFrames")) {
                     List<String> frames = new ArrayList<>();
                     json.getAsJsonArray("titleFrames").forEach(e -> frames.add(e.getAsString()));
@@ -181,6 +188,19 @@ public class WebServer {
             }
         });
 
+        // API: Scoreboard istatistikleri (auth gerekli)
+        Spark.get("/api/stats", (request, response) -> {
+            response.type("application/json");
+            String sessionId = request.headers("Authorization");
+
+            if (!isValidSession(sessionId)) {
+                response.status(401);
+                return "{\"success\": false, \"error\": \"Unauthorized\"}";
+            }
+
+            return gson.toJson(plugin.getScoreboardManager().getStats());
+        });
+
         // API: Hazır şablonları getir (auth gerekli)
         Spark.get("/api/templates", (request, response) -> {
             response.type("application/json");
@@ -217,6 +237,8 @@ public class WebServer {
                     plugin.getScoreboardManager().setTitleFrames((List<String>) template.get("titleFrames"));
                     plugin.getScoreboardManager().setLines((List<String>) template.get("lines"));
                     plugin.getScoreboardManager().setUpdateInterval((Integer) template.get("updateInterval"));
+                    // Şablonların başlık animasyonu güncelleme aralığıyla aynı hızda tasarlandı
+                    plugin.getScoreboardManager().setTitleInterval((Integer) template.get("updateInterval"));
                     return "{\"success\": true}";
                 } else {
                     response.status(404);
@@ -0,0 +1,33 @@
+package org.example.enoboard.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Gradient içindeki renk kodları metinde kalmamalıdır; rengi sadece gradient belirler,
+ * biçim kodları her harfe uygulanır.
+ */
+class LineTemplateTest {
+
+    private final RenderContext context = new RenderContext().capture(null, 0, new RenderContext());
+
+    @Test
+    void gradientDropsColorCodes() {
+        LineTemplate template = LineTemplate.compile("<gradient:#ff0000:#0000ff>&aa&#00ff00b&r&lc</gradient>");
+        String[] steps = TextColors.steps(0xff0000, 0x0000ff, 3);
+
+        assertEquals(steps[0] + "\u00a7la" + steps[1] + "\u00a7lb" + steps[2] + "\u00a7lc",
+                template.render(context, null));
+    }
+
+    @Test
+    void gradientWithPlaceholderDropsColorCodes() {
+        LineTemplate template = LineTemplate.compile("<gradient:#ff0000:#0000ff>&a%online%</gradient>");
+        String online = LineTemplate.compile("%online%").render(context, null);
+
+        StringBuilder expected = new StringBuilder();
+        TextColors.appendGradient(expected, online, 0xff0000, 0x0000ff, "");
+        assertEquals(expected.toString(), template.render(context, null));
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bellek backend'i gösterilen sidebar'ı sunucudaki gibi takip etmelidir: oyuncu aynı anda
+ * tek sidebar görür, kaldırılan sidebar kimseye gösterilmez.
+ */
+class MemorySidebarBackendTest {
+
+    private final MemorySidebarBackend backend = new MemorySidebarBackend();
+    private final Player player = player(UUID.randomUUID());
+
+    @Test
+    void showMovesViewerToNewSidebar() {
+        MemorySidebarBackend.MemorySidebar first = (MemorySidebarBackend.MemorySidebar) backend.create();
+        MemorySidebarBackend.MemorySidebar second = (MemorySidebarBackend.MemorySidebar) backend.create();
+        first.setTitle("&6Baslik");
+        first.setLineCount(2);
+        first.setLine(1, "alt");
+
+        first.show(player);
+        assertSame(first, backend.getSidebar(player.getUniqueId()));
+        assertEquals("&6Baslik", first.getTitle());
+        assertEquals(List.of("", "alt"), first.getLines());
+
+        second.show(player);
+        assertSame(second, backend.getSidebar(player.getUniqueId()));
+        assertEquals(Set.of(), first.getViewers());
+        assertEquals(Set.of(player.getUniqueId()), second.getViewers());
+    }
+
+    @Test
+    void destroyAndHideRemoveViewer() {
+        MemorySidebarBackend.MemorySidebar sidebar = (MemorySidebarBackend.MemorySidebar) backend.create();
+        sidebar.show(player);
+        backend.hide(player);
+        assertNull(backend.getSidebar(player.getUniqueId()));
+
+        backend.destroy(sidebar);
+        assertTrue(sidebar.isDestroyed());
+        assertEquals(List.of(), backend.getSidebars());
+    }
+
+    private static Player player(UUID uuid) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> method.getName().equals("getUniqueId") ? uuid : null);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.enoboard.scoreboard;
+
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Board sadece değişen satırları backend'e yazmalıdır: aynı sonucu veren render hiçbir işlem
+ * üretmez, tek satırlık değişiklik tek bir yazma üretir.
+ */
+class PlayerBoardWriteTest {
+
+    private static final List<LineTemplate> LINES = List.of(
+            LineTemplate.compile("&7Hosgeldiniz!"),
+            LineTemplate.compile("&eOnline: &f%online%"),
+            LineTemplate.compile("&eMax: &f%max%"));
+
+    // İkinci satırın başka bir animasyon karesi; diğer satırlar aynı şablon
+    private static final List<LineTemplate> CHANGED = List.of(
+            LINES.get(0),
+            LineTemplate.compile("&eOnline: &a%online%"),
+            LINES.get(2));
+
+    private final RenderContext context = new RenderContext().capture(null, 0, new RenderContext());
+    private final String[] shared = new String[LINES.size()];
+
+    @Test
+    void memoryBackendWritesOnlyChangedLines() {
+        MemorySidebarBackend backend = new MemorySidebarBackend();
+        PlayerBoard board = new PlayerBoard(null, backend.create(), 0);
+        render(board, LINES, 0);
+        assertEquals(rendered(LINES), backend.getSidebars().get(0).getLines());
+
+        Map<String, Long> before = backend.getOperationCounts();
+        render(board, LINES, 1);
+        assertEquals(Map.of(), changes(before, backend.getOperationCounts()));
+
+        before = backend.getOperationCounts();
+        render(board, CHANGED, 2);
+        assertEquals(Map.of("lines", 1L), changes(before, backend.getOperationCounts()));
+        assertEquals(rendered(CHANGED), backend.getSidebars().get(0).getLines());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RenderMode.class)
+    void bukkitBackendWritesOnlyChangedLines(RenderMode mode) {
+        BukkitSidebarBackend backend = new BukkitSidebarBackend(new ScoreboardPool(), mode);
+        PlayerBoard board = new PlayerBoard(null, backend.create(fakeScoreboard()), 0);
+        render(board, LINES, 0);
+
+        Map<String, Long> before = backend.getOperationCounts();
+        render(board, LINES, 1);
+        assertEquals(Map.of(), changes(before, backend.getOperationCounts()));
+
+        before = backend.getOperationCounts();
+        render(board, CHANGED, 2);
+        // TEAM modunda satır metni tek prefix paketidir; ENTRY modunda eski entry silinip yenisi yazılır
+        Map<String, Long> expected = mode == RenderMode.TEAM
+                ? Map.of("prefixes", 1L)
+                : Map.of("scores", 1L, "resets", 1L);
+        assertEquals(expected, changes(before, backend.getOperationCounts()));
+    }
+
+    private void render(PlayerBoard board, List<LineTemplate> templates, long tick) {
+        board.applyLines(board.renderLines(templates, shared, context, Placeholder.ALL, tick));
+    }
+
+    private List<String> rendered(List<LineTemplate> templates) {
+        return templates.stream().map(template -> template.render(context, null)).toList();
+    }
+
+    /**
+     * İki sayaç görüntüsü arasında değişen sayaçlar ve farkları.
+     */
+    private static Map<String, Long> changes(Map<String, Long> before, Map<String, Long> after) {
+        Map<String, Long> changes = new LinkedHashMap<>();
+        after.forEach((name, count) -> {
+            long delta = count - before.getOrDefault(name, 0L);
+            if (delta != 0) {
+                changes.put(name, delta);
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * Sunucu olmadan çalışan, yazılanları yok sayan bir scoreboard.
+     */
+    private static Scoreboard fakeScoreboard() {
+        Score score = fake(Score.class, (proxy, method, args) -> null);
+        Team team = fake(Team.class, (proxy, method, args) -> null);
+        Objective objective = fake(Objective.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getDisplayName" -> "";
+            case "getScore" -> score;
+            default -> null;
+        });
+        return fake(Scoreboard.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getObjective" -> objective;
+            case "registerNewTeam" -> team;
+            default -> null;
+        });
+    }
+
+    private static <T> T fake(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object result = handler.invoke(proxy, method, args);
+            Class<?> returnType = method.getReturnType();
+            if (result == null && returnType.isPrimitive() && returnType != void.class) {
+                // Primitive dönüşler null olamaz; tipin varsayılan değeri verilir
+                return Array.get(Array.newInstance(returnType, 1), 0);
+            }
+            return result;
+        }));
+    }
+}
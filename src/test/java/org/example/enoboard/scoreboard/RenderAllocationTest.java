@@ -0,0 +1,79 @@
+package org.example.enoboard.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Değişmeyen satırların render'ı allocation yapmamalıdır; tick başına binlerce board
+ * render edildiği için buradaki birkaç bayt bile GC baskısına dönüşür.
+ * <p>
+ * Bağlam oyuncusuz ve önceden yakalanmış olduğu için Bukkit'e dokunulmaz.
+ */
+class RenderAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    // Ölçüm gürültüsü için küçük bir pay; gerçek değer 0 olmalıdır
+    private static final long MAX_BYTES_PER_RENDER = 16;
+
+    private com.sun.management.ThreadMXBean threads;
+    private RenderContext context;
+
+    @BeforeEach
+    void setUp() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        context = new RenderContext().capture(null, 0, new RenderContext());
+    }
+
+    @Test
+    void unchangedTemplateRenderDoesNotAllocate() {
+        LineTemplate template = LineTemplate.compile("&eOnline: &f%online%/%max%");
+        String previous = template.render(context, null);
+
+        for (int i = 0; i < WARMUP; i++) {
+            previous = template.render(context, previous);
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            previous = template.render(context, previous);
+        }
+        long perRender = (allocatedBytes() - before) / ITERATIONS;
+
+        assertTrue(perRender <= MAX_BYTES_PER_RENDER, "render başına " + perRender + " bayt");
+    }
+
+    @Test
+    void unchangedBoardRenderDoesNotAllocate() {
+        List<LineTemplate> templates = List.of(
+                LineTemplate.compile("&7Hosgeldiniz!"),
+                LineTemplate.compile("&eSunucu: &f%online%/%max%"),
+                LineTemplate.compile("<gradient:#ff0000:#0000ff>Online %online%</gradient>"));
+        String[] shared = new String[templates.size()];
+        PlayerBoard board = new PlayerBoard(null, new MemorySidebarBackend().create(), 0);
+        board.applyLines(board.renderLines(templates, shared, context, Placeholder.ALL, 0));
+
+        long tick = 1;
+        for (int i = 0; i < WARMUP; i++) {
+            board.applyLines(board.renderLines(templates, shared, context, Placeholder.ALL, tick++));
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            board.applyLines(board.renderLines(templates, shared, context, Placeholder.ALL, tick++));
+        }
+        long perRender = (allocatedBytes() - before) / ITERATIONS;
+
+        assertTrue(perRender <= MAX_BYTES_PER_RENDER, "render başına " + perRender + " bayt");
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
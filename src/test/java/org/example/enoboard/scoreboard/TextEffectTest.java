@@ -0,0 +1,41 @@
+package org.example.enoboard.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Efektler metni görünür karakterlere böler; renk kodları ve gradientler kesilmemelidir.
+ */
+class TextEffectTest {
+
+    @Test
+    void hexColorIsNotSplit() {
+        TextEffect effect = TextEffect.fromMap(Map.of("effect", "typewriter", "text", "&#ff8800ab", "colors", List.of("&f")));
+
+        assertEquals(2, effect.frameCount());
+        assertEquals("&f&#ff8800a", effect.frame(0));
+        assertEquals("&f&#ff8800ab", effect.frame(1));
+    }
+
+    @Test
+    void gradientIsColoredPerCharacter() {
+        TextEffect effect = TextEffect.fromMap(Map.of("effect", "typewriter", "text", "<gradient:#ff0000:#0000ff>&lab</gradient>", "colors", List.of("&f")));
+        String[] steps = TextColors.steps(0xff0000, 0x0000ff, 2);
+
+        assertEquals(2, effect.frameCount());
+        assertEquals("&f" + steps[0] + "\u00a7la", effect.frame(0));
+        assertEquals("&f" + steps[0] + "\u00a7la" + steps[1] + "\u00a7lb", effect.frame(1));
+    }
+
+    @Test
+    void gradientWithPlaceholderIsOneUnit() {
+        TextEffect effect = TextEffect.fromMap(Map.of("effect", "typewriter", "text", "<gradient:#ff0000:#0000ff>%online%</gradient>!"));
+
+        assertEquals(2, effect.frameCount());
+        assertEquals("<gradient:#ff0000:#0000ff>%online%</gradient>", effect.frame(0));
+    }
+}